@@ -1,5 +1,5 @@
 import apiClient from './client';
-import type { ApiResponse, Task, TaskCreateRequest, TaskUpdateRequest, Comment, CommentCreateRequest } from '../types';
+import type { ApiResponse, CursorPage, Task, TaskCreateRequest, TaskUpdateRequest, Comment, CommentCreateRequest } from '../types';
 
 export const taskApi = {
   createTask: async (teamId: number, data: TaskCreateRequest): Promise<Task> => {
@@ -7,16 +7,40 @@ export const taskApi = {
     return response.data.data;
   },
 
-  getTeamTasks: async (teamId: number): Promise<Task[]> => {
-    const response = await apiClient.get<ApiResponse<Task[]>>(`/teams/${teamId}/tasks`);
+  getTeamTasksPage: async (teamId: number, cursor?: string, size?: number): Promise<CursorPage<Task>> => {
+    const response = await apiClient.get<ApiResponse<CursorPage<Task>>>(`/teams/${teamId}/tasks`, {
+      params: { cursor, size },
+    });
     return response.data.data;
   },
 
+  getTeamTasks: async (teamId: number): Promise<Task[]> => {
+    const tasks: Task[] = [];
+    let cursor: string | undefined;
+    do {
+      const page = await taskApi.getTeamTasksPage(teamId, cursor);
+      tasks.push(...page.content);
+      cursor = page.hasNext && page.nextCursor ? page.nextCursor : undefined;
+    } while (cursor);
+    return tasks;
+  },
+
   getMyTasks: async (): Promise<Task[]> => {
     const response = await apiClient.get<ApiResponse<Task[]>>('/tasks/my');
     return response.data.data;
   },
 
+  getMyDeadlineTasks: async (
+    state: 'OVERDUE' | 'DUE_SOON' = 'OVERDUE',
+    cursor?: string,
+    size?: number
+  ): Promise<CursorPage<Task>> => {
+    const response = await apiClient.get<ApiResponse<CursorPage<Task>>>('/tasks/my/deadlines', {
+      params: { state, cursor, size },
+    });
+    return response.data.data;
+  },
+
   getTask: async (taskId: number): Promise<Task> => {
     const response = await apiClient.get<ApiResponse<Task>>(`/tasks/${taskId}`);
     return response.data.data;
@@ -31,11 +55,29 @@ export const taskApi = {
     await apiClient.delete<ApiResponse<void>>(`/tasks/${taskId}`);
   },
 
-  getComments: async (taskId: number): Promise<Comment[]> => {
-    const response = await apiClient.get<ApiResponse<Comment[]>>(`/tasks/${taskId}/comments`);
+  restoreTask: async (taskId: number): Promise<Task> => {
+    const response = await apiClient.post<ApiResponse<Task>>(`/tasks/${taskId}/restore`);
+    return response.data.data;
+  },
+
+  getCommentsPage: async (taskId: number, cursor?: string, size?: number): Promise<CursorPage<Comment>> => {
+    const response = await apiClient.get<ApiResponse<CursorPage<Comment>>>(`/tasks/${taskId}/comments`, {
+      params: { cursor, size },
+    });
     return response.data.data;
   },
 
+  getComments: async (taskId: number): Promise<Comment[]> => {
+    const comments: Comment[] = [];
+    let cursor: string | undefined;
+    do {
+      const page = await taskApi.getCommentsPage(taskId, cursor);
+      comments.push(...page.content);
+      cursor = page.hasNext && page.nextCursor ? page.nextCursor : undefined;
+    } while (cursor);
+    return comments;
+  },
+
   addComment: async (taskId: number, data: CommentCreateRequest): Promise<Comment> => {
     const response = await apiClient.post<ApiResponse<Comment>>(`/tasks/${taskId}/comments`, data);
     return response.data.data;
@@ -64,6 +64,7 @@ export interface Task {
   status: 'TODO' | 'IN_PROGRESS' | 'DONE';
   priority: 'LOW' | 'MEDIUM' | 'HIGH';
   deadline: string | null;
+  commentCount: number | null;
   version: number;
   createdAt: string;
   updatedAt: string;
@@ -109,3 +110,10 @@ export interface ApiResponse<T> {
   message: string;
   data: T;
 }
+
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
+}
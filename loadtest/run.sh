@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 처리량/p99 지연 시간 비교.
+# 필요: application.yml 의 MySQL, k6, jq
+# 사용: loadtest/run.sh [RATE] [DURATION]   예) loadtest/run.sh 1500 2m
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RATE="${1:-1500}"
+DURATION="${2:-2m}"
+PORT=8082
+BASE_URL="http://localhost:${PORT}"
+mkdir -p loadtest/results
+
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+for MODE in platform virtual; do
+  VIRTUAL=false
+  [ "$MODE" = virtual ] && VIRTUAL=true
+
+  # SQL 로그는 측정을 왜곡하므로 끄고, 가상 스레드 고정(pinning)은 로그로 남깁니다.
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+    --server.port="$PORT" \
+    --spring.threads.virtual.enabled="$VIRTUAL" \
+    --spring.jpa.properties.hibernate.show_sql=false \
+    --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+    > "loadtest/results/${MODE}-app.log" 2>&1 &
+  APP_PID=$!
+  trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+  until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e MODE="$MODE" -e RATE="$RATE" -e DURATION="$DURATION" \
+    loadtest/task-endpoints.js
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  trap - EXIT
+done
+
+printf '\n%-10s %10s %10s %10s %12s %12s\n' mode rps p99_ms failed team_p99_ms task_p99_ms
+for MODE in platform virtual; do
+  jq -r --arg mode "$MODE" '
+    [ $mode,
+      (.metrics.http_reqs.values.rate | floor),
+      (.metrics.http_req_duration.values["p(99)"] | floor),
+      (.metrics.http_req_failed.values.rate * 100 | tostring + "%"),
+      ((.metrics["http_req_duration{endpoint:team_tasks}"].values["p(99)"] // 0) | floor),
+      ((.metrics["http_req_duration{endpoint:task}"].values["p(99)"] // 0) | floor)
+    ] | @tsv' "loadtest/results/${MODE}.json" | awk -F'\t' '{ printf "%-10s %10s %10s %10s %12s %12s\n", $1, $2, $3, $4, $5, $6 }'
+done
+
+PINNED=$(grep -c "<== monitors" loadtest/results/virtual-app.log || true)
+echo "virtual thread pinning events: ${PINNED} (see loadtest/results/virtual-app.log)"
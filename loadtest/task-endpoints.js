@@ -0,0 +1,91 @@
+// 업무 API 부하 테스트 (k6)
+// 실행: loadtest/run.sh 가 플랫폼 스레드/가상 스레드 모드로 각각 호출합니다.
+//   k6 run -e BASE_URL=http://localhost:8082 -e MODE=platform loadtest/task-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = parseInt(__ENV.RATE || '1500', 10);
+const DURATION = __ENV.DURATION || '2m';
+const SEED_TASKS = parseInt(__ENV.SEED_TASKS || '500', 10);
+
+export const options = {
+  scenarios: {
+    // 도착률 고정: 서버가 느려져도 요청 수가 줄지 않아 스레드 고갈이 지연 시간으로 드러납니다.
+    burst: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.min(RATE * 2, 4000),
+      maxVUs: 6000,
+    },
+  },
+  // 엔드포인트별 지표를 요약에 포함시키기 위한 항상 통과하는 임계값
+  thresholds: {
+    'http_req_duration{endpoint:team_tasks}': ['p(99)>=0'],
+    'http_req_duration{endpoint:task}': ['p(99)>=0'],
+    'http_req_duration{endpoint:create_task}': ['p(99)>=0'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  discardResponseBodies: true,
+};
+
+function json(body, token) {
+  const headers = { 'Content-Type': 'application/json' };
+  if (token) {
+    headers.Authorization = `Bearer ${token}`;
+  }
+  return { headers, responseType: 'text' };
+}
+
+export function setup() {
+  const loginId = `load${Date.now()}`;
+  const credentials = { loginId, password: 'password1', nickname: loginId };
+  http.post(`${BASE_URL}/api/auth/signup`, JSON.stringify(credentials), json());
+  const login = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ loginId, password: credentials.password }), json());
+  const token = login.json('data.accessToken');
+
+  const team = http.post(`${BASE_URL}/api/teams`, JSON.stringify({ name: `load-${MODE}` }), json(null, token));
+  const teamId = team.json('data.id');
+
+  const taskIds = [];
+  for (let offset = 0; offset < SEED_TASKS; offset += 100) {
+    const tasks = [];
+    for (let i = offset; i < Math.min(offset + 100, SEED_TASKS); i++) {
+      tasks.push({ title: `task ${i}`, content: 'load test', priority: ['LOW', 'MEDIUM', 'HIGH'][i % 3] });
+    }
+    const batch = http.post(`${BASE_URL}/api/teams/${teamId}/tasks:batch`, JSON.stringify({ tasks }), json(null, token));
+    batch.json('data.results').forEach((result) => taskIds.push(result.task.id));
+  }
+  return { token, teamId, taskIds };
+}
+
+export default function (data) {
+  const params = json(null, data.token);
+  const roll = Math.random();
+
+  if (roll < 0.6) {
+    params.tags = { endpoint: 'team_tasks' };
+    const res = http.get(`${BASE_URL}/api/teams/${data.teamId}/tasks?size=50`, params);
+    check(res, { 'team tasks 200': (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    params.tags = { endpoint: 'task' };
+    const taskId = data.taskIds[Math.floor(Math.random() * data.taskIds.length)];
+    const res = http.get(`${BASE_URL}/api/tasks/${taskId}`, params);
+    check(res, { 'task 200': (r) => r.status === 200 });
+  } else {
+    params.tags = { endpoint: 'create_task' };
+    const res = http.post(`${BASE_URL}/api/teams/${data.teamId}/tasks`,
+      JSON.stringify({ title: 'created under load', priority: 'MEDIUM' }), params);
+    check(res, { 'create 201': (r) => r.status === 201 });
+  }
+}
+
+export function handleSummary(data) {
+  const out = {};
+  out[`loadtest/results/${MODE}.json`] = JSON.stringify(data, null, 2);
+  return out;
+}
@@ -0,0 +1,83 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+import com.cowork.global.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업무 목록 응답 생성 비용: 엔티티 → TaskResponse 변환과 ApiResponse 봉투의 JSON 직렬화.
+ * ObjectMapper 는 Spring Boot 와 같은 기본 설정(Jackson2ObjectMapperBuilder)을 사용합니다.
+ */
+@State(Scope.Benchmark)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"1", "50", "200"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private ApiResponse<List<TaskResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Team team = Team.builder().id(1L).name("benchmark team").description("team").build();
+        LocalDateTime now = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User worker = User.builder()
+                    .id((long) i)
+                    .loginId("worker" + i)
+                    .password("pw")
+                    .nickname("nickname" + i)
+                    .role(UserRole.USER)
+                    .build();
+            Task task = Task.builder()
+                    .id((long) i)
+                    .team(team)
+                    .worker(worker)
+                    .path("/")
+                    .depth(0)
+                    .title("Benchmark task title " + i)
+                    .content("Benchmark task content that is about as long as a typical description. " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                    .deadline(now.plusDays(i))
+                    .version((long) i)
+                    .commentCount((long) i)
+                    .build();
+            ReflectionTestUtils.setField(task, "createdAt", now);
+            ReflectionTestUtils.setField(task, "updatedAt", now);
+            tasks.add(task);
+        }
+        response = ApiResponse.success(tasks.stream().map(TaskResponse::from).toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> mapOnly() {
+        return tasks.stream().map(TaskResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeOnly() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(tasks.stream().map(TaskResponse::from).toList()));
+    }
+}
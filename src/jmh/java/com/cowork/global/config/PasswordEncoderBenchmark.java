@@ -0,0 +1,46 @@
+package com.cowork.global.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+
+/**
+ * 회원가입(encode)과 로그인(matches) 시 BCrypt 비용.
+ * 강도는 application.yml 의 cowork.security.bcrypt-strength 를 그대로 사용합니다.
+ */
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        encoder = new BCryptPasswordEncoder(configuredStrength());
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    private static int configuredStrength() throws IOException {
+        PropertySource<?> source = new YamlPropertySourceLoader()
+                .load("application", new ClassPathResource("application.yml"))
+                .get(0);
+        Object strength = source.getProperty("cowork.security.bcrypt-strength");
+        return strength != null ? Integer.parseInt(strength.toString()) : 10;
+    }
+}
@@ -0,0 +1,44 @@
+package com.cowork.global.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtFilter 를 요청 하나 단위로 통과시키는 비용 (헤더 파싱, 토큰 검증, SecurityContext 설정, 체인 호출).
+ * claimsCache 파라미터로 클레임 캐시 적용 여부를 비교합니다.
+ */
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "v3ry-s3cr3t-k3y-f0r-jwt-sign1ng-must-b3-l0ng3r-th4n-32-chars";
+    private static final long EXPIRATION = 3_600_000L;
+
+    @Param({"false", "true"})
+    public boolean claimsCache;
+
+    private JwtFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, claimsCache, 10_000);
+        filter = new JwtFilter(jwtUtil);
+        authorization = "Bearer " + jwtUtil.createToken("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/my");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
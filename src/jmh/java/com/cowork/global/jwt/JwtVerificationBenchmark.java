@@ -0,0 +1,54 @@
+package com.cowork.global.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 토큰 발급 비용과 JwtFilter 가 요청마다 수행하는 토큰 검증 비용 비교.
+ * <ul>
+ *     <li>createToken: 로그인 시 토큰 서명</li>
+ *     <li>legacyFourParses: validateToken / isExpired / getLoginId / getRole 을 각각 호출 (기존 필터)</li>
+ *     <li>singlePass: verify() 한 번, 클레임 캐시 비활성화</li>
+ *     <li>cachedClaims: verify() 한 번, 같은 토큰 반복 요청 시 클레임 캐시 적중</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "v3ry-s3cr3t-k3y-f0r-jwt-sign1ng-must-b3-l0ng3r-th4n-32-chars";
+    private static final long EXPIRATION = 3_600_000L;
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, false, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, true, 10_000);
+        token = uncachedJwtUtil.createToken("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return uncachedJwtUtil.createToken("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(uncachedJwtUtil.validateToken(token));
+        bh.consume(uncachedJwtUtil.isExpired(token));
+        bh.consume(uncachedJwtUtil.getLoginId(token));
+        bh.consume(uncachedJwtUtil.getRole(token));
+    }
+
+    @Benchmark
+    public Object singlePass() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Object cachedClaims() {
+        return cachedJwtUtil.verify(token);
+    }
+}
@@ -4,6 +4,7 @@ import com.cowork.domain.comment.dto.CommentCreateRequest;
 import com.cowork.domain.comment.dto.CommentResponse;
 import com.cowork.domain.comment.service.CommentService;
 import com.cowork.global.response.ApiResponse;
+import com.cowork.global.response.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,8 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "Comment", description = "Comment API")
 @SecurityRequirement(name = "bearerAuth")
 @RestController
@@ -37,12 +36,15 @@ public class CommentController {
                 .body(ApiResponse.success("Comment created successfully", response));
     }
 
-    @Operation(summary = "댓글 목록 조회", description = "특정 업무의 모든 댓글을 조회합니다.")
+    @Operation(summary = "댓글 목록 조회",
+            description = "특정 업무의 댓글을 작성순으로 조회합니다. 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentResponse>>> getComments(
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentResponse>>> getComments(
             @AuthenticationPrincipal String loginId,
-            @PathVariable Long taskId) {
-        List<CommentResponse> response = commentService.getComments(loginId, taskId);
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<CommentResponse> response = commentService.getComments(loginId, taskId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
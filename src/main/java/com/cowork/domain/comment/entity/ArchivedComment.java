@@ -0,0 +1,35 @@
+package com.cowork.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 업무(tasks_archive)의 댓글. comments 와 같은 컬럼이며 업무와 함께 이동합니다.
+ */
+@Entity
+@Table(name = "comments_archive",
+        indexes = @Index(name = "idx_comment_archive_task", columnList = "task_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "writer_id", nullable = false)
+    private Long writerId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -1,10 +1,31 @@
 package com.cowork.domain.comment.repository;
 
 import com.cowork.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByTaskIdOrderByCreatedAtAsc(Long taskId);
+
+    // (task_id, created_at, id) 인덱스를 따라 작성순으로 조회하며 작성자를 함께 가져옵니다.
+    @EntityGraph(attributePaths = {"writer"})
+    @Query("select c from Comment c " +
+            "where c.task.id = :taskId " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findCommentsFirstPage(@Param("taskId") Long taskId, Limit limit);
+
+    @EntityGraph(attributePaths = {"writer"})
+    @Query("select c from Comment c " +
+            "where c.task.id = :taskId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findCommentsAfter(@Param("taskId") Long taskId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Limit limit);
 }
@@ -4,19 +4,25 @@ import com.cowork.domain.comment.dto.CommentCreateRequest;
 import com.cowork.domain.comment.dto.CommentResponse;
 import com.cowork.domain.comment.entity.Comment;
 import com.cowork.domain.comment.repository.CommentRepository;
+import com.cowork.domain.task.dto.TaskChangeEvent;
 import com.cowork.domain.task.entity.Task;
 import com.cowork.domain.task.repository.TaskRepository;
-import com.cowork.domain.team.repository.TeamMemberRepository;
+import com.cowork.domain.task.service.TeamTaskStatsService;
+import com.cowork.domain.team.service.TeamMembershipCache;
 import com.cowork.domain.user.entity.User;
-import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.domain.user.service.UserIdentityCache;
 import com.cowork.global.exception.CustomException;
 import com.cowork.global.exception.ErrorCode;
+import com.cowork.global.pagination.KeysetCursor;
+import com.cowork.global.pagination.PageSizeResolver;
+import com.cowork.global.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,19 +31,21 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final PageSizeResolver pageSizeResolver;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(String loginId, Long taskId, CommentCreateRequest request) {
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = userIdentityCache.getReference(loginId);
 
         Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
 
         // 멤버십 검증
-        if (!teamMemberRepository.existsByUserAndTeam(user, task.getTeam())) {
+        if (!teamMembershipCache.isMember(user.getId(), task.getTeam().getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
@@ -48,26 +56,47 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        taskRepository.incrementCommentCount(taskId);
+        // 업무 목록의 댓글 수가 바뀌므로 팀 변경 번호도 올림
+        teamTaskStatsService.touch(task.getTeam().getId());
 
-        return CommentResponse.from(savedComment);
+        CommentResponse response = CommentResponse.from(savedComment);
+        eventPublisher.publishEvent(TaskChangeEvent.commentAdded(task.getTeam().getId(), response));
+        return response;
     }
 
-    public List<CommentResponse> getComments(String loginId, Long taskId) {
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public CursorPageResponse<CommentResponse> getComments(String loginId, Long taskId, String cursor, Integer size) {
+        User user = userIdentityCache.getReference(loginId);
 
         Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
 
         // 멤버십 검증
-        if (!teamMemberRepository.existsByUserAndTeam(user, task.getTeam())) {
+        if (!teamMembershipCache.isMember(user.getId(), task.getTeam().getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
-        List<Comment> comments = commentRepository.findAllByTaskIdOrderByCreatedAtAsc(taskId);
+        int pageSize = pageSizeResolver.resolve(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
 
-        return comments.stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toList());
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findCommentsFirstPage(taskId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            comments = commentRepository.findCommentsAfter(taskId, after.createdAt(), after.id(), limit);
+        }
+
+        return CursorPageResponse.of(comments, pageSize, CommentResponse::from,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode());
+    }
+
+    /**
+     * comment_count 가 비어 있는 기존 업무의 댓글 수를 집계합니다.
+     */
+    @Transactional
+    public int backfillCommentCounts(int batchSize) {
+        return taskRepository.backfillCommentCounts(batchSize);
     }
 }
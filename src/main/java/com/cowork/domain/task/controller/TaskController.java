@@ -1,19 +1,50 @@
 package com.cowork.domain.task.controller;
 
+import com.cowork.domain.task.dto.TaskActivityResponse;
+import com.cowork.domain.task.dto.TaskBatchCreateRequest;
+import com.cowork.domain.task.dto.TaskBatchResponse;
+import com.cowork.domain.task.dto.TaskBatchUpdateRequest;
 import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskExportFormat;
+import com.cowork.domain.task.dto.TaskMoveRequest;
 import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskSearchResponse;
+import com.cowork.domain.task.dto.TaskTreeResponse;
 import com.cowork.domain.task.dto.TaskUpdateRequest;
+import com.cowork.domain.task.dto.TeamTaskSummaryResponse;
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.service.TaskActivityService;
+import com.cowork.domain.task.service.TaskArchiveService;
+import com.cowork.domain.task.service.TaskBatchService;
+import com.cowork.domain.task.service.TaskDeadlineService;
+import com.cowork.domain.task.service.TaskETags;
+import com.cowork.domain.task.service.TaskEventService;
+import com.cowork.domain.task.service.TaskExportService;
+import com.cowork.domain.task.service.TaskResponseCache;
+import com.cowork.domain.task.service.TaskResponseCache.CachedJson;
+import com.cowork.domain.task.service.TaskSearchService;
 import com.cowork.domain.task.service.TaskService;
+import com.cowork.domain.task.service.TaskTreeService;
+import com.cowork.domain.task.service.TeamTaskStatsService;
 import com.cowork.global.response.ApiResponse;
+import com.cowork.global.response.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,7 +54,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    // 캐시는 허용하되 매번 ETag 로 재검증하도록 함 (Spring Security 기본값은 no-store)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final TaskTreeService taskTreeService;
+    private final TaskSearchService taskSearchService;
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final TaskEventService taskEventService;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskActivityService taskActivityService;
+    private final TaskDeadlineService taskDeadlineService;
+    private final TaskArchiveService taskArchiveService;
 
     @Operation(summary = "업무 생성", description = "팀 내에 새로운 업무를 생성합니다.")
     @PostMapping("/api/teams/{teamId}/tasks")
@@ -37,15 +81,104 @@ public class TaskController {
                 .body(ApiResponse.success("Task created successfully", response));
     }
 
-    @Operation(summary = "팀 업무 목록 조회", description = "특정 팀의 모든 업무를 조회합니다.")
-    @GetMapping("/api/teams/{teamId}/tasks")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTeamTasks(
+    @Operation(summary = "업무 일괄 생성", description = "팀 내에 여러 업무를 한 번에 생성합니다. 항목별 성공/실패 결과를 반환합니다.")
+    @PostMapping("/api/teams/{teamId}/tasks:batch")
+    public ResponseEntity<ApiResponse<TaskBatchResponse>> createTasks(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @Valid @RequestBody TaskBatchCreateRequest request) {
+        TaskBatchResponse response = taskBatchService.createTasks(loginId, teamId, request);
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
+
+    @Operation(summary = "업무 일괄 수정", description = "팀 내 여러 업무를 한 번에 수정합니다. 항목별 성공/실패(버전 충돌 포함) 결과를 반환합니다.")
+    @PatchMapping("/api/teams/{teamId}/tasks:batch")
+    public ResponseEntity<ApiResponse<TaskBatchResponse>> updateTasks(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @Valid @RequestBody TaskBatchUpdateRequest request) {
+        TaskBatchResponse response = taskBatchService.updateTasks(loginId, teamId, request);
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", response));
+    }
+
+    @Operation(summary = "팀 업무 목록 조회",
+            description = "특정 팀의 업무를 최신순으로 조회합니다. 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다. "
+                    + "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPageApiResponse.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
+    @GetMapping(value = "/api/teams/{teamId}/tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTeamTasks(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        // 목록보다 먼저 변경 번호를 읽어야 ETag 가 응답 내용보다 새로워지지 않음
+        String eTag = taskService.getTeamTasksETag(loginId, teamId, cursor, size).orElse(null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        // 직렬화된 응답을 캐시에서 꺼내 Jackson 을 거치지 않고 그대로 씁니다. (ETag 헤더는 checkNotModified 가 설정)
+        CachedJson json = taskResponseCache.getTeamTasks(teamId, cursor, size, eTag,
+                () -> taskService.getTeamTasks(loginId, teamId, cursor, size));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(REVALIDATE)
+                .body(json.body());
+    }
+
+    @Operation(summary = "팀 업무 현황 요약", description = "상태별/우선순위별 업무 수와 지연, 미배정 업무 수를 조회합니다.")
+    @GetMapping("/api/teams/{teamId}/tasks/summary")
+    public ResponseEntity<ApiResponse<TeamTaskSummaryResponse>> getTeamTaskSummary(
             @AuthenticationPrincipal String loginId,
             @PathVariable Long teamId) {
-        List<TaskResponse> response = taskService.getTeamTasks(loginId, teamId);
+        TeamTaskSummaryResponse response = teamTaskStatsService.getSummary(loginId, teamId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "팀 업무 검색", description = "업무 제목과 내용에서 키워드를 검색하여 관련도 순으로 조회합니다.")
+    @GetMapping("/api/teams/{teamId}/tasks/search")
+    public ResponseEntity<ApiResponse<TaskSearchResponse>> searchTeamTasks(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        TaskSearchResponse response = taskSearchService.search(loginId, teamId, keyword, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "팀 업무 내보내기", description = "팀의 모든 업무를 NDJSON(ndjson) 또는 CSV(csv) 형식으로 스트리밍합니다.")
+    @GetMapping("/api/teams/{teamId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTeamTasks(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        StreamingResponseBody body = taskExportService.export(loginId, teamId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"team-" + teamId + "-tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @Operation(summary = "팀 업무 변경 구독",
+            description = "팀 업무의 생성/수정/삭제와 댓글 작성을 SSE 로 전달합니다. "
+                    + "재접속 시 Last-Event-ID 이후의 이벤트를 이어 받으며, 이어 받을 수 없으면 RESYNC 이벤트를 보냅니다.")
+    @GetMapping(value = "/api/teams/{teamId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTeamEvents(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long teamId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(required = false) Long lastEventId) {
+        return taskEventService.subscribe(loginId, teamId,
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
     @Operation(summary = "내 담당 업무 조회", description = "로그인한 사용자가 담당하는 모든 업무를 조회합니다.")
     @GetMapping("/api/tasks/my")
     public ResponseEntity<ApiResponse<List<TaskResponse>>> getMyTasks(
@@ -54,23 +187,86 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "업무 상세 조회", description = "특정 업무의 상세 정보를 조회합니다.")
-    @GetMapping("/api/tasks/{taskId}")
-    public ResponseEntity<ApiResponse<TaskResponse>> getTask(
+    @Operation(summary = "내 마감 임박/지연 업무 조회",
+            description = "로그인한 사용자가 담당하는 업무 중 마감이 지났거나(OVERDUE) 곧 다가오는(DUE_SOON) 업무를 마감일 순으로 조회합니다.")
+    @GetMapping("/api/tasks/my/deadlines")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TaskResponse>>> getMyDeadlineTasks(
             @AuthenticationPrincipal String loginId,
-            @PathVariable Long taskId) {
-        TaskResponse response = taskService.getTask(loginId, taskId);
+            @RequestParam(defaultValue = "OVERDUE") TaskDeadlineState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<TaskResponse> response = taskDeadlineService.getMyDeadlineTasks(loginId, state, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "업무 수정", description = "업무의 상태, 내용 등을 수정합니다. 낙관적 락이 적용됩니다.")
+    @Operation(summary = "업무 상세 조회",
+            description = "특정 업무의 상세 정보를 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskApiResponse.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
+    @GetMapping(value = "/api/tasks/{taskId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTask(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long taskId,
+            WebRequest webRequest) {
+        String eTag = taskService.getTaskETag(loginId, taskId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        // ETag 헤더는 checkNotModified 가 설정
+        CachedJson json = taskResponseCache.getTask(taskId, eTag, () -> taskService.getTask(loginId, taskId));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(REVALIDATE)
+                .body(json.body());
+    }
+
+    @Operation(summary = "하위 업무 트리 조회", description = "업무와 그 하위 업무들을 depth 단계까지 트리 구조로 조회합니다.")
+    @GetMapping("/api/tasks/{taskId}/tree")
+    public ResponseEntity<ApiResponse<TaskTreeResponse>> getTaskTree(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) Integer depth) {
+        TaskTreeResponse response = taskTreeService.getTree(loginId, taskId, depth);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "업무 활동 기록 조회",
+            description = "업무의 생성, 필드 변경, 삭제 기록을 최신순으로 커서 기반 페이지네이션하여 조회합니다. 기록은 비동기로 저장되어 변경 직후에는 잠시 늦게 보일 수 있습니다.")
+    @GetMapping("/api/tasks/{taskId}/activity")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TaskActivityResponse>>> getTaskActivity(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<TaskActivityResponse> response = taskActivityService.getActivity(loginId, taskId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "상위 업무 변경", description = "업무를 다른 업무의 하위로 이동합니다. parentId 가 없으면 최상위 업무가 됩니다.")
+    @PatchMapping("/api/tasks/{taskId}/parent")
+    public ResponseEntity<ApiResponse<TaskResponse>> moveTask(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long taskId,
+            @RequestBody TaskMoveRequest request) {
+        TaskResponse response = taskTreeService.moveTask(loginId, taskId, request);
+        return ResponseEntity.ok(ApiResponse.success("Task moved successfully", response));
+    }
+
+    @Operation(summary = "업무 수정",
+            description = "업무의 상태, 내용 등을 수정합니다. 낙관적 락이 적용되며, version 대신 If-Match 헤더에 ETag 를 전달할 수 있습니다.")
     @PatchMapping("/api/tasks/{taskId}")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @AuthenticationPrincipal String loginId,
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TaskUpdateRequest request) {
-        TaskResponse response = taskService.updateTask(loginId, taskId, request);
-        return ResponseEntity.ok(ApiResponse.success("Task updated successfully", response));
+        TaskResponse response = taskService.updateTask(loginId, taskId, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.forTask(response))
+                .body(ApiResponse.success("Task updated successfully", response));
     }
 
     @Operation(summary = "업무 삭제", description = "업무를 삭제합니다. (Soft Delete)")
@@ -81,4 +277,38 @@ public class TaskController {
         taskService.deleteTask(loginId, taskId);
         return ResponseEntity.ok(ApiResponse.success("Task deleted successfully", null));
     }
+
+    @Operation(summary = "업무 복원", description = "삭제된 업무를 복원합니다. 보관(archive)된 업무는 댓글과 함께 복원됩니다.")
+    @PostMapping("/api/tasks/{taskId}/restore")
+    public ResponseEntity<ApiResponse<TaskResponse>> restoreTask(
+            @AuthenticationPrincipal String loginId,
+            @PathVariable Long taskId) {
+        TaskResponse response = taskArchiveService.restoreTask(loginId, taskId);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.forTask(response))
+                .body(ApiResponse.success("Task restored successfully", response));
+    }
+
+    // 미리 직렬화된 byte[] 로 응답하는 조회의 OpenAPI 스키마입니다. 직렬화에는 쓰이지 않습니다.
+    @Schema(name = "TaskApiResponse")
+    static class TaskApiResponse {
+        public boolean success;
+        public String message;
+        public TaskResponse data;
+    }
+
+    @Schema(name = "TaskPageApiResponse")
+    static class TaskPageApiResponse {
+        public boolean success;
+        public String message;
+        public TaskPage data;
+    }
+
+    @Schema(name = "TaskPage")
+    static class TaskPage {
+        public List<TaskResponse> content;
+        public int size;
+        public boolean hasNext;
+        public String nextCursor;
+    }
 }
@@ -0,0 +1,39 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.task.entity.TaskActivity;
+import com.cowork.domain.task.entity.TaskActivityType;
+import com.cowork.domain.task.entity.TaskField;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TaskActivityResponse {
+    private Long id;
+    private Long taskId;
+    private String actorLoginId;
+    private String actorNickname;
+    private TaskActivityType type;
+    private TaskField field;
+    private String oldValue;
+    private String newValue;
+    private Long version;
+    private LocalDateTime occurredAt;
+
+    public static TaskActivityResponse from(TaskActivity activity) {
+        return TaskActivityResponse.builder()
+                .id(activity.getId())
+                .taskId(activity.getTaskId())
+                .actorLoginId(activity.getActor() != null ? activity.getActor().getLoginId() : null)
+                .actorNickname(activity.getActor() != null ? activity.getActor().getNickname() : null)
+                .type(activity.getType())
+                .field(activity.getField())
+                .oldValue(activity.getOldValue())
+                .newValue(activity.getNewValue())
+                .version(activity.getVersion())
+                .occurredAt(activity.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.cowork.domain.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TaskBatchCreateRequest {
+
+    @NotEmpty(message = "Tasks are required")
+    private List<TaskCreateRequest> tasks;
+}
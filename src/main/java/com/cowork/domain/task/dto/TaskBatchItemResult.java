@@ -0,0 +1,39 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.global.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchItemResult {
+
+    private int index;
+    private boolean success;
+    private String code;
+    private String message;
+    private TaskResponse task;
+
+    public static TaskBatchItemResult success(int index, TaskResponse task) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .success(true)
+                .task(task)
+                .build();
+    }
+
+    public static TaskBatchItemResult failure(int index, ErrorCode errorCode) {
+        return failure(index, errorCode, errorCode.getMessage());
+    }
+
+    public static TaskBatchItemResult failure(int index, ErrorCode errorCode, String message) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .code(errorCode.getCode())
+                .message(message)
+                .build();
+    }
+}
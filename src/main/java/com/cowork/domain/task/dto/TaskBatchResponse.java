@@ -0,0 +1,26 @@
+package com.cowork.domain.task.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskBatchResponse {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResult> results;
+
+    public static TaskBatchResponse of(List<TaskBatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(TaskBatchItemResult::isSuccess).count();
+        return TaskBatchResponse.builder()
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class TaskBatchUpdateItem {
+
+    @NotNull(message = "Task ID is required")
+    private Long taskId;
+
+    @Size(min = 1, max = 200, message = "Title must be between 1 and 200 characters")
+    private String title;
+
+    private String content;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate deadline;
+
+    private String workerLoginId;
+
+    private Long version;
+}
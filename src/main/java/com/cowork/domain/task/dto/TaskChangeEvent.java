@@ -0,0 +1,53 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.comment.dto.CommentResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 업무 변경 이벤트. 트랜잭션 커밋 후 팀 이벤트 스트림으로 전달됩니다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeEvent {
+
+    private TaskEventType type;
+    private Long teamId;
+    private Long taskId;
+    private Object data;
+    private LocalDateTime occurredAt;
+
+    public static TaskChangeEvent created(TaskResponse task) {
+        return of(TaskEventType.TASK_CREATED, task.getTeamId(), task.getId(), task);
+    }
+
+    public static TaskChangeEvent updated(TaskResponse task) {
+        return of(TaskEventType.TASK_UPDATED, task.getTeamId(), task.getId(), task);
+    }
+
+    public static TaskChangeEvent deleted(Long teamId, Long taskId) {
+        return of(TaskEventType.TASK_DELETED, teamId, taskId, null);
+    }
+
+    public static TaskChangeEvent commentAdded(Long teamId, CommentResponse comment) {
+        return of(TaskEventType.COMMENT_ADDED, teamId, comment.getTaskId(), comment);
+    }
+
+    public static TaskChangeEvent resync(Long teamId) {
+        return of(TaskEventType.RESYNC, teamId, null, null);
+    }
+
+    private static TaskChangeEvent of(TaskEventType type, Long teamId, Long taskId, Object data) {
+        return TaskChangeEvent.builder()
+                .type(type)
+                .teamId(teamId)
+                .taskId(taskId)
+                .data(data)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
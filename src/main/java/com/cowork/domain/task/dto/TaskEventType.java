@@ -0,0 +1,10 @@
+package com.cowork.domain.task.dto;
+
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED,
+    COMMENT_ADDED,
+    // 재개 지점이 보관 범위를 벗어나 클라이언트가 목록을 다시 조회해야 함
+    RESYNC
+}
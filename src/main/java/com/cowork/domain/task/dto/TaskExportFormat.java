@@ -0,0 +1,25 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TaskExportFormat from(String value) {
+        for (TaskExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cowork.domain.task.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TaskMoveRequest {
+
+    // null 이면 최상위 업무로 이동
+    private Long parentId;
+}
@@ -23,6 +23,7 @@ public class TaskResponse {
     private TaskStatus status;
     private TaskPriority priority;
     private LocalDateTime deadline;
+    private Long commentCount;
     private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -40,6 +41,7 @@ public class TaskResponse {
                 .status(task.getStatus())
                 .priority(task.getPriority())
                 .deadline(task.getDeadline())
+                .commentCount(task.getCommentCount())
                 .version(task.getVersion())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
@@ -0,0 +1,17 @@
+package com.cowork.domain.task.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskSearchResponse {
+
+    private String keyword;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private List<TaskResponse> content;
+}
@@ -0,0 +1,44 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskTreeResponse {
+
+    private Long id;
+    private Long parentId;
+    private int depth;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime deadline;
+    private String workerLoginId;
+    private String workerNickname;
+    private Long version;
+    private List<TaskTreeResponse> children;
+
+    public static TaskTreeResponse from(Task task, int rootDepth) {
+        return TaskTreeResponse.builder()
+                .id(task.getId())
+                .parentId(task.getParent() != null ? task.getParent().getId() : null)
+                .depth(task.getDepth() - rootDepth)
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .deadline(task.getDeadline())
+                .workerLoginId(task.getWorker() != null ? task.getWorker().getLoginId() : null)
+                .workerNickname(task.getWorker() != null ? task.getWorker().getNickname() : null)
+                .version(task.getVersion())
+                .children(new ArrayList<>())
+                .build();
+    }
+}
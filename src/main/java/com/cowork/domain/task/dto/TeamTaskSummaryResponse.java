@@ -0,0 +1,20 @@
+package com.cowork.domain.task.dto;
+
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class TeamTaskSummaryResponse {
+
+    private Long teamId;
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    private long overdue;
+    private long unassigned;
+}
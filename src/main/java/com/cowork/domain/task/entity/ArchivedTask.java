@@ -0,0 +1,66 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 삭제 업무의 보관 테이블. tasks 와 같은 컬럼에 archived_at 이 추가됩니다.
+ * 행 이동은 TaskArchiveRepository 의 INSERT ... SELECT 로만 수행하며, 외래 키 없이 id 값만 보관합니다.
+ */
+@Entity
+@Table(name = "tasks_archive",
+        indexes = @Index(name = "idx_task_archive_team", columnList = "team_id, archived_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "worker_id")
+    private Long workerId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(length = 700)
+    private String path;
+
+    private Integer depth;
+
+    @Column(length = 200, nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    private LocalDateTime deadline;
+
+    private Long commentCount;
+
+    private Long version;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
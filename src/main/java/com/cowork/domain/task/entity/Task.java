@@ -7,17 +7,40 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        indexes = {
+                @Index(name = "idx_task_team_created", columnList = "team_id, deleted_at, created_at, id"),
+                @Index(name = "idx_task_worker_created", columnList = "worker_id, deleted_at, created_at, id"),
+                @Index(name = "idx_task_parent", columnList = "parent_id, deleted_at"),
+                @Index(name = "idx_task_path", columnList = "path"),
+                @Index(name = "idx_task_deadline", columnList = "deadline, status, deleted_at"),
+                @Index(name = "idx_task_deleted", columnList = "deleted_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Task extends BaseTimeEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 전략은 INSERT 배치가 불가능하므로 pooled 테이블 생성기로 id 를 미리 할당합니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(
+            name = "task_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "tasks",
+            allocationSize = Task.ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +55,14 @@ public class Task extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Task parent;
 
+    // Materialized path: 조상 id 목록 ("/" = 최상위, "/1/5/" = 1 → 5 의 하위 업무)
+    // 경로 변경은 하위 업무 전체에 대한 벌크 업데이트로만 수행합니다. (TaskRepository#movePaths)
+    @Column(length = 700, updatable = false)
+    private String path;
+
+    @Column(updatable = false)
+    private Integer depth;
+
     @Column(length = 200, nullable = false)
     private String title;
 
@@ -48,25 +79,104 @@ public class Task extends BaseTimeEntity {
 
     private LocalDateTime deadline;
 
+    // 댓글 수 (비정규화). 동시 작성 시 유실되지 않도록 TaskRepository#incrementCommentCount 로만 증가시킵니다.
+    // null 은 아직 집계되지 않은 기존 업무를 의미합니다. (CommentCountBackfillRunner)
+    @Builder.Default
+    @Column(updatable = false)
+    private Long commentCount = 0L;
+
     @Version
     private Long version;
 
+    // 필드 단위 병합용 변경 이력 (TaskConflictResolver)
+    @Embedded
+    @Builder.Default
+    private TaskFieldVersions fieldVersions = new TaskFieldVersions();
+
     private LocalDateTime deletedAt;
 
+    // 커밋 후 활동 기록(TaskActivityLog)으로 넘길 변경 내역. 저장하지 않습니다.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<TaskChange> pendingChanges = new ArrayList<>();
+
     public void updateTask(String title, String content, TaskStatus status, TaskPriority priority, LocalDateTime deadline) {
-        if (title != null) this.title = title;
-        if (content != null) this.content = content;
-        if (status != null) this.status = status;
-        if (priority != null) this.priority = priority;
-        if (deadline != null) this.deadline = deadline;
+        if (title != null && !title.equals(this.title)) {
+            changed(TaskField.TITLE, this.title, title);
+            this.title = title;
+        }
+        if (content != null && !content.equals(this.content)) {
+            changed(TaskField.CONTENT, this.content, content);
+            this.content = content;
+        }
+        if (status != null && status != this.status) {
+            changed(TaskField.STATUS, this.status, status);
+            this.status = status;
+        }
+        if (priority != null && priority != this.priority) {
+            changed(TaskField.PRIORITY, this.priority, priority);
+            this.priority = priority;
+        }
+        if (deadline != null && !deadline.equals(this.deadline)) {
+            changed(TaskField.DEADLINE, this.deadline, deadline);
+            this.deadline = deadline;
+        }
     }
 
     public void assignWorker(User worker) {
+        if (!Objects.equals(workerId(), worker != null ? worker.getId() : null)) {
+            changed(TaskField.WORKER,
+                    this.worker != null ? this.worker.getLoginId() : null,
+                    worker != null ? worker.getLoginId() : null);
+        }
         this.worker = worker;
     }
 
+    public Long workerId() {
+        return worker != null ? worker.getId() : null;
+    }
+
+    /**
+     * 지금까지의 변경 내역을 꺼내고 비웁니다.
+     */
+    public List<TaskChange> drainChanges() {
+        List<TaskChange> changes = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        return changes;
+    }
+
+    // 변경은 다음 flush 에서 version 이 하나 오른 상태로 기록됩니다.
+    private void changed(TaskField field, Object oldValue, Object newValue) {
+        fieldVersions.stamp(field, (version != null ? version : 0L) + 1);
+        pendingChanges.add(TaskChange.updated(field, oldValue, newValue));
+    }
+
+    public void changeParent(Task parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 이 업무의 하위 업무들이 갖는 path 접두사.
+     */
+    public String subtreePath() {
+        return path + id + "/";
+    }
+
+    public static String childPathOf(Task parent) {
+        return parent == null ? "/" : parent.subtreePath();
+    }
+
+    public static int childDepthOf(Task parent) {
+        return parent == null ? 0 : parent.getDepth() + 1;
+    }
+
     public void softDelete() {
         this.deletedAt = LocalDateTime.now();
+        pendingChanges.add(TaskChange.deleted());
+    }
+
+    public void restore() {
+        this.deletedAt = null;
     }
 
     public boolean isDeleted() {
@@ -0,0 +1,60 @@
+package com.cowork.domain.task.entity;
+
+import com.cowork.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업무 활동 기록 (append-only). 저장은 TaskActivityLog 가 JDBC 배치로만 수행하고, 이 엔티티는 조회에만 사용합니다.
+ * 업무가 보관(삭제)된 뒤에도 이력을 남기기 위해 task_id 에는 외래 키를 두지 않습니다.
+ */
+@Entity
+@Immutable
+@Table(name = "task_activities",
+        indexes = {
+                @Index(name = "idx_task_activity_task", columnList = "task_id, occurred_at, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    // 스케줄러 등 요청 밖의 변경은 null
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "actor_id")
+    private User actor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskActivityType type;
+
+    @Enumerated(EnumType.STRING)
+    private TaskField field;
+
+    @Column(columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(columnDefinition = "TEXT")
+    private String newValue;
+
+    // 변경이 반영된 업무 버전
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
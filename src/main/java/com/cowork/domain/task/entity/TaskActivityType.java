@@ -0,0 +1,7 @@
+package com.cowork.domain.task.entity;
+
+public enum TaskActivityType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
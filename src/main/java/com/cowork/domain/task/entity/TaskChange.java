@@ -0,0 +1,25 @@
+package com.cowork.domain.task.entity;
+
+import java.util.Objects;
+
+/**
+ * 업무 도메인 메서드가 남기는 변경 내역. 필드 변경(UPDATED)은 이전 값과 새 값을 문자열로 갖습니다.
+ */
+public record TaskChange(TaskActivityType type, TaskField field, String oldValue, String newValue) {
+
+    public static TaskChange created() {
+        return new TaskChange(TaskActivityType.CREATED, null, null, null);
+    }
+
+    public static TaskChange updated(TaskField field, Object oldValue, Object newValue) {
+        return new TaskChange(TaskActivityType.UPDATED, field, format(oldValue), format(newValue));
+    }
+
+    public static TaskChange deleted() {
+        return new TaskChange(TaskActivityType.DELETED, null, null, null);
+    }
+
+    private static String format(Object value) {
+        return Objects.toString(value, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 담당자별 마감 임박/지연 업무 목록. 업무당 한 행이며 TaskDeadlineService 가 갱신합니다.
+ * 쓰기는 TaskDeadlineAlertRepository 의 upsert/delete 로만 수행합니다.
+ */
+@Entity
+@Table(name = "task_deadline_alerts",
+        indexes = @Index(name = "idx_deadline_alert_user", columnList = "user_id, state, deadline, task_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskDeadlineAlert {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    private Task task;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskDeadlineState state;
+
+    @Column(nullable = false)
+    private LocalDateTime deadline;
+}
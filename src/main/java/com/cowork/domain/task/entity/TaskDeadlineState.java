@@ -0,0 +1,6 @@
+package com.cowork.domain.task.entity;
+
+public enum TaskDeadlineState {
+    DUE_SOON,
+    OVERDUE
+}
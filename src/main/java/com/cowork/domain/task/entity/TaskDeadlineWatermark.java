@@ -0,0 +1,37 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 스캐너의 진행 위치. 마감일이 watermark 이하인 업무는 해당 상태로 이미 반영되었습니다.
+ */
+@Entity
+@Table(name = "task_deadline_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskDeadlineWatermark {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskDeadlineState state;
+
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+
+    public TaskDeadlineWatermark(TaskDeadlineState state, LocalDateTime watermark) {
+        this.state = state;
+        this.watermark = watermark;
+    }
+
+    public void advance(LocalDateTime to) {
+        if (to.isAfter(watermark)) {
+            this.watermark = to;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.cowork.domain.task.entity;
+
+/**
+ * 수정 요청으로 바꿀 수 있는 업무 필드. 필드별 마지막 변경 버전({@link TaskFieldVersions})의 단위입니다.
+ */
+public enum TaskField {
+    TITLE,
+    CONTENT,
+    STATUS,
+    PRIORITY,
+    DEADLINE,
+    WORKER
+}
@@ -0,0 +1,71 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 필드별로 마지막으로 값이 바뀐 업무 버전.
+ * 클라이언트가 보낸 기준 버전 이후에 바뀐 필드만 골라낼 수 있어, 서로 다른 필드를 고친 동시 수정을 병합할 수 있습니다.
+ * 0 은 업무 생성 이후 바뀐 적이 없음을 의미합니다. (V4 마이그레이션 이전 업무는 마이그레이션 시점의 버전)
+ */
+@Embeddable
+@NoArgsConstructor
+public class TaskFieldVersions {
+
+    @Column(name = "title_version", nullable = false)
+    private long title;
+
+    @Column(name = "content_version", nullable = false)
+    private long content;
+
+    @Column(name = "status_version", nullable = false)
+    private long status;
+
+    @Column(name = "priority_version", nullable = false)
+    private long priority;
+
+    @Column(name = "deadline_version", nullable = false)
+    private long deadline;
+
+    @Column(name = "worker_version", nullable = false)
+    private long worker;
+
+    public long get(TaskField field) {
+        return switch (field) {
+            case TITLE -> title;
+            case CONTENT -> content;
+            case STATUS -> status;
+            case PRIORITY -> priority;
+            case DEADLINE -> deadline;
+            case WORKER -> worker;
+        };
+    }
+
+    void stamp(TaskField field, long version) {
+        switch (field) {
+            case TITLE -> title = version;
+            case CONTENT -> content = version;
+            case STATUS -> status = version;
+            case PRIORITY -> priority = version;
+            case DEADLINE -> deadline = version;
+            case WORKER -> worker = version;
+        }
+    }
+
+    /**
+     * baseVersion 이후의 버전에서 값이 바뀐 필드.
+     */
+    public Set<TaskField> changedSince(long baseVersion) {
+        Set<TaskField> changed = EnumSet.noneOf(TaskField.class);
+        for (TaskField field : TaskField.values()) {
+            if (get(field) > baseVersion) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 팀별 · 마감일별 미완료 업무 수. 마감일이 지난 버킷의 합이 지연 업무 수가 됩니다.
+ * 기본 키는 팀별 범위 스캔을 위해 (team_id, deadline_date) 순서입니다. (V2 마이그레이션)
+ */
+@Entity
+@Table(name = "team_task_deadline_stats")
+@IdClass(TeamTaskDeadlineStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamTaskDeadlineStats {
+
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Id
+    @Column(name = "deadline_date")
+    private LocalDate deadlineDate;
+
+    @Column(nullable = false)
+    private long openCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long teamId;
+        private LocalDate deadlineDate;
+    }
+}
@@ -0,0 +1,69 @@
+package com.cowork.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀별 업무 집계 카운터. TaskService 가 업무 변경과 같은 트랜잭션에서 증감합니다.
+ * 값 변경은 원자적 UPDATE(TeamTaskStatsRepository) 로만 수행하며, 매 변경마다 changeStamp 가 증가합니다.
+ */
+@Entity
+@Table(name = "team_task_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamTaskStats {
+
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long todoCount;
+
+    @Column(nullable = false)
+    private long inProgressCount;
+
+    @Column(nullable = false)
+    private long doneCount;
+
+    @Column(nullable = false)
+    private long lowCount;
+
+    @Column(nullable = false)
+    private long mediumCount;
+
+    @Column(nullable = false)
+    private long highCount;
+
+    @Column(nullable = false)
+    private long unassignedCount;
+
+    // 팀 업무 목록이 바뀔 때마다 증가하는 변경 번호 (목록 ETag 용)
+    @Column(nullable = false)
+    private long changeStamp;
+
+    private LocalDateTime updatedAt;
+
+    public long countOf(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoCount;
+            case IN_PROGRESS -> inProgressCount;
+            case DONE -> doneCount;
+        };
+    }
+
+    public long countOf(TaskPriority priority) {
+        return switch (priority) {
+            case LOW -> lowCount;
+            case MEDIUM -> mediumCount;
+            case HIGH -> highCount;
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.TaskActivity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+
+    // 최신순 keyset 페이지네이션 (idx_task_activity_task 를 역순으로 읽음)
+    @Query("select a from TaskActivity a left join fetch a.actor " +
+            "where a.taskId = :taskId " +
+            "order by a.occurredAt desc, a.id desc")
+    List<TaskActivity> findActivityFirstPage(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("select a from TaskActivity a left join fetch a.actor " +
+            "where a.taskId = :taskId " +
+            "and (a.occurredAt < :occurredAt or (a.occurredAt = :occurredAt and a.id < :id)) " +
+            "order by a.occurredAt desc, a.id desc")
+    List<TaskActivity> findActivityBefore(@Param("taskId") Long taskId,
+                                          @Param("occurredAt") LocalDateTime occurredAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+}
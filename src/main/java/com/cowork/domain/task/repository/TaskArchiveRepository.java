@@ -0,0 +1,95 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 삭제 업무/댓글을 tasks_archive, comments_archive 로 옮기고 되돌리는 쿼리.
+ * 모두 id 목록(기본 키) 기준이라 배치 크기만큼의 행만 잠급니다.
+ */
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, Long> {
+
+    // 복사/삭제 단계는 모두 findArchivableIds 와 같은 조건으로 다시 거릅니다.
+    // 조회 이후 복원된 업무가 있더라도 그 업무와 댓글은 옮기거나 지우지 않습니다.
+    String ARCHIVABLE_TASK_IDS = "(select t.id from tasks t where t.id in (:ids) and t.deleted_at < :cutoff)";
+
+    // 아직 tasks 에 하위 업무가 남아 있는 업무는 parent_id 외래 키 때문에 옮기지 않습니다.
+    // 하위 업무가 먼저 보관되면 다음 배치에서 대상이 됩니다.
+    // 대상 행을 잠가 보관이 끝날 때까지 복원이 끼어들지 못하게 하고, 복원 중인 행은 건너뜁니다.
+    @Query(value = "select t.id from tasks t " +
+            "where t.deleted_at < :cutoff " +
+            "and not exists (select 1 from tasks c where c.parent_id = t.id) " +
+            "order by t.deleted_at, t.id limit :limit " +
+            "for update skip locked",
+            nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "insert into tasks_archive (id, team_id, worker_id, parent_id, path, depth, title, content, " +
+            "status, priority, deadline, comment_count, version, deleted_at, created_at, updated_at, archived_at) " +
+            "select id, team_id, worker_id, parent_id, path, depth, title, content, " +
+            "status, priority, deadline, comment_count, version, deleted_at, created_at, updated_at, :archivedAt " +
+            "from tasks where id in (:ids) and deleted_at < :cutoff",
+            nativeQuery = true)
+    int copyTasksToArchive(@Param("ids") Collection<Long> ids,
+                           @Param("cutoff") LocalDateTime cutoff,
+                           @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "insert into comments_archive (id, content, task_id, writer_id, created_at, updated_at) " +
+            "select id, content, task_id, writer_id, created_at, updated_at " +
+            "from comments where task_id in " + ARCHIVABLE_TASK_IDS,
+            nativeQuery = true)
+    int copyCommentsToArchive(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "delete from comments where task_id in " + ARCHIVABLE_TASK_IDS, nativeQuery = true)
+    int deleteComments(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "delete from task_deadline_alerts where task_id in " + ARCHIVABLE_TASK_IDS, nativeQuery = true)
+    int deleteDeadlineAlerts(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "delete from tasks where id in (:ids) and deleted_at < :cutoff", nativeQuery = true)
+    int deleteTasks(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    // 복원: 보관 시점 이후 상위 업무가 사라졌을 수 있으므로 parent/path/depth 는 호출 측에서 정합니다.
+    // 필드별 변경 버전은 보관하지 않으므로 모든 필드가 현재 버전에서 바뀐 것으로 복원합니다.
+    @Modifying
+    @Query(value = "insert into tasks (id, team_id, worker_id, parent_id, path, depth, title, content, " +
+            "status, priority, deadline, comment_count, version, deleted_at, created_at, updated_at, " +
+            "title_version, content_version, status_version, priority_version, deadline_version, worker_version) " +
+            "select id, team_id, worker_id, :parentId, :path, :depth, title, content, " +
+            "status, priority, deadline, comment_count, version, deleted_at, created_at, updated_at, " +
+            "coalesce(version, 0), coalesce(version, 0), coalesce(version, 0), " +
+            "coalesce(version, 0), coalesce(version, 0), coalesce(version, 0) " +
+            "from tasks_archive where id = :id",
+            nativeQuery = true)
+    int copyTaskFromArchive(@Param("id") Long id,
+                            @Param("parentId") Long parentId,
+                            @Param("path") String path,
+                            @Param("depth") int depth);
+
+    @Modifying
+    @Query(value = "insert into comments (id, content, task_id, writer_id, created_at, updated_at) " +
+            "select id, content, task_id, writer_id, created_at, updated_at " +
+            "from comments_archive where task_id = :taskId",
+            nativeQuery = true)
+    int copyCommentsFromArchive(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "delete from comments_archive where task_id = :taskId", nativeQuery = true)
+    int deleteArchivedComments(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "delete from tasks_archive where id = :id", nativeQuery = true)
+    int deleteArchivedTask(@Param("id") Long id);
+}
@@ -0,0 +1,66 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.TaskDeadlineAlert;
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskDeadlineAlertRepository extends JpaRepository<TaskDeadlineAlert, Long> {
+
+    @Modifying
+    @Query(value = "insert into task_deadline_alerts (task_id, user_id, team_id, state, deadline) " +
+            "values (:taskId, :userId, :teamId, :state, :deadline) " +
+            "on duplicate key update user_id = :userId, team_id = :teamId, state = :state, deadline = :deadline",
+            nativeQuery = true)
+    void upsert(@Param("taskId") Long taskId,
+                @Param("userId") Long userId,
+                @Param("teamId") Long teamId,
+                @Param("state") String state,
+                @Param("deadline") LocalDateTime deadline);
+
+    // 스캐너용: 조회 이후 완료/재배정/삭제/마감일 변경된 업무는 쓰지 않도록 업무 행을 다시 확인하며 씁니다.
+    // INSERT ... SELECT 는 원본 행에 공유 잠금을 걸므로 진행 중인 변경이 있으면 커밋을 기다린 뒤 그 결과를 읽습니다.
+    @Modifying
+    @Query(value = "insert into task_deadline_alerts (task_id, user_id, team_id, state, deadline) " +
+            "select t.id, t.worker_id, t.team_id, :state, t.deadline from tasks t " +
+            "where t.id = :taskId and t.worker_id = :userId and t.deadline = :deadline " +
+            "and t.status <> 'DONE' and t.deleted_at is null " +
+            "on duplicate key update user_id = :userId, team_id = :teamId, state = :state, deadline = :deadline",
+            nativeQuery = true)
+    int upsertIfStillDue(@Param("taskId") Long taskId,
+                         @Param("userId") Long userId,
+                         @Param("teamId") Long teamId,
+                         @Param("state") String state,
+                         @Param("deadline") LocalDateTime deadline);
+
+    @Modifying
+    @Query("delete from TaskDeadlineAlert a where a.taskId = :taskId")
+    void deleteByTaskId(@Param("taskId") Long taskId);
+
+    // (user_id, state, deadline, task_id) 인덱스 범위 스캔
+    @EntityGraph(attributePaths = {"task", "task.team", "task.worker"})
+    @Query("select a from TaskDeadlineAlert a " +
+            "where a.userId = :userId and a.state = :state " +
+            "order by a.deadline asc, a.taskId asc")
+    List<TaskDeadlineAlert> findUserAlertsFirstPage(@Param("userId") Long userId,
+                                                    @Param("state") TaskDeadlineState state,
+                                                    Limit limit);
+
+    @EntityGraph(attributePaths = {"task", "task.team", "task.worker"})
+    @Query("select a from TaskDeadlineAlert a " +
+            "where a.userId = :userId and a.state = :state " +
+            "and (a.deadline > :deadline or (a.deadline = :deadline and a.taskId > :taskId)) " +
+            "order by a.deadline asc, a.taskId asc")
+    List<TaskDeadlineAlert> findUserAlertsAfter(@Param("userId") Long userId,
+                                                @Param("state") TaskDeadlineState state,
+                                                @Param("deadline") LocalDateTime deadline,
+                                                @Param("taskId") Long taskId,
+                                                Limit limit);
+}
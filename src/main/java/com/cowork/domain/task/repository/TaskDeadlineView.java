@@ -0,0 +1,14 @@
+package com.cowork.domain.task.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskDeadlineView {
+
+    Long getId();
+
+    Long getTeamId();
+
+    Long getWorkerId();
+
+    LocalDateTime getDeadline();
+}
@@ -0,0 +1,8 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.entity.TaskDeadlineWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskDeadlineWatermarkRepository extends JpaRepository<TaskDeadlineWatermark, TaskDeadlineState> {
+}
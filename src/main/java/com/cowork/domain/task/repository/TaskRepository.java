@@ -1,18 +1,152 @@
 package com.cowork.domain.task.repository;
 
 import com.cowork.domain.task.entity.Task;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskStreamRepository {
 
     List<Task> findAllByTeamIdAndDeletedAtIsNull(Long teamId);
 
     List<Task> findAllByWorkerIdAndDeletedAtIsNull(Long workerId);
 
+    // 목록 조회용: TaskResponse 변환 시 team / worker 지연 로딩(N+1)을 막기 위해 함께 조회
+    @EntityGraph(attributePaths = {"team", "worker"})
+    @Query("select t from Task t " +
+            "where t.worker.id = :workerId and t.deletedAt is null " +
+            "order by t.createdAt desc, t.id desc")
+    List<Task> findMyTasks(@Param("workerId") Long workerId);
+
     Optional<Task> findByIdAndDeletedAtIsNull(Long id);
 
+    // 수정용 조회: 충돌 판단부터 반영까지 다른 수정이 끼어들지 않도록 행을 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id and t.deletedAt is null")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    // 복원용 조회: 삭제된 업무도 포함하며, 같은 행을 잠그는 보관 배치와 차례로 진행합니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdIncludingDeletedForUpdate(@Param("id") Long id);
+
+    // 조건부 조회(If-None-Match) 용: 엔티티를 로딩하지 않고 ETag 구성 요소만 조회
+    @Query("select t.team.id as teamId, t.version as version, t.commentCount as commentCount " +
+            "from Task t where t.id = :id and t.deletedAt is null")
+    Optional<TaskTagView> findTagById(@Param("id") Long id);
+
     List<Task> findAllByParentIdAndDeletedAtIsNull(Long parentId);
+
+    @EntityGraph(attributePaths = {"team", "worker"})
+    @Query("select t from Task t " +
+            "where t.team.id = :teamId and t.deletedAt is null " +
+            "order by t.createdAt desc, t.id desc")
+    List<Task> findTeamTasksFirstPage(@Param("teamId") Long teamId, Limit limit);
+
+    @EntityGraph(attributePaths = {"team", "worker"})
+    @Query("select t from Task t " +
+            "where t.team.id = :teamId and t.deletedAt is null " +
+            "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) " +
+            "order by t.createdAt desc, t.id desc")
+    List<Task> findTeamTasksAfter(@Param("teamId") Long teamId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    // 하위 트리 조회: path 접두사 인덱스 범위 스캔 한 번으로 모든 하위 업무를 조회
+    @EntityGraph(attributePaths = {"worker"})
+    @Query("select t from Task t " +
+            "where t.path like concat(:subtreePath, '%') and t.depth <= :maxDepth and t.deletedAt is null " +
+            "order by t.depth asc, t.id asc")
+    List<Task> findSubtree(@Param("subtreePath") String subtreePath, @Param("maxDepth") int maxDepth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Task t set t.path = :path, t.depth = :depth where t.id = :id")
+    int updatePath(@Param("id") Long id, @Param("path") String path, @Param("depth") int depth);
+
+    // 하위 업무들의 path 접두사를 일괄 치환 (소프트 삭제된 업무 포함)
+    @Modifying(flushAutomatically = true)
+    @Query("update Task t " +
+            "set t.path = concat(:newPrefix, substring(t.path, length(:oldPrefix) + 1)), " +
+            "t.depth = t.depth + :depthDelta " +
+            "where t.path like concat(:oldPrefix, '%')")
+    int movePaths(@Param("oldPrefix") String oldPrefix,
+                  @Param("newPrefix") String newPrefix,
+                  @Param("depthDelta") int depthDelta);
+
+    // 동시 댓글 작성에도 유실되지 않도록 DB 에서 원자적으로 증가 (null 인 미집계 업무는 그대로 둠)
+    @Modifying
+    @Query("update Task t set t.commentCount = t.commentCount + 1 where t.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update tasks t " +
+            "set t.comment_count = (select count(*) from comments c where c.task_id = t.id) " +
+            "where t.comment_count is null " +
+            "limit :limit",
+            nativeQuery = true)
+    int backfillCommentCounts(@Param("limit") int limit);
+
+    @Query("select t from Task t where t.path is null order by t.id asc")
+    List<Task> findWithoutPath(Limit limit);
+
+    /**
+     * FULLTEXT(ngram) 인덱스 ft_task_title_content 를 사용한 관련도 순 검색.
+     * 인덱스는 InnoDB 가 INSERT/UPDATE 시점에 트랜잭션 단위로 갱신합니다.
+     */
+    @Query(value = "select t.id as id, " +
+            "match(t.title, t.content) against (:keyword in natural language mode) as score " +
+            "from tasks t " +
+            "where t.team_id = :teamId and t.deleted_at is null " +
+            "and match(t.title, t.content) against (:keyword in natural language mode) " +
+            "order by score desc, t.id desc " +
+            "limit :limit offset :offset",
+            nativeQuery = true)
+    List<TaskSearchHit> searchByKeyword(@Param("teamId") Long teamId,
+                                        @Param("keyword") String keyword,
+                                        @Param("limit") int limit,
+                                        @Param("offset") int offset);
+
+    @EntityGraph(attributePaths = {"team", "worker"})
+    @Query("select t from Task t where t.id in :ids")
+    List<Task> findAllWithTeamAndWorkerByIdIn(@Param("ids") List<Long> ids);
+
+    // 일괄 수정용 조회: 행을 id 순서로 잠가 겹치는 배치끼리 교착 없이 차례로 진행합니다.
+    // 조인한 팀/사용자 행까지 잠그지 않도록 fetch 없이 조회합니다. (둘 다 2차 캐시 대상)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids order by t.id")
+    List<Task> findAllForUpdateByIdIn(@Param("ids") List<Long> ids);
+
+    @Query(value = "select count(*) as total, " +
+            "coalesce(sum(case when t.status = 'TODO' then 1 else 0 end), 0) as todo, " +
+            "coalesce(sum(case when t.status = 'IN_PROGRESS' then 1 else 0 end), 0) as inProgress, " +
+            "coalesce(sum(case when t.status = 'DONE' then 1 else 0 end), 0) as done, " +
+            "coalesce(sum(case when t.priority = 'LOW' then 1 else 0 end), 0) as low, " +
+            "coalesce(sum(case when t.priority = 'MEDIUM' then 1 else 0 end), 0) as medium, " +
+            "coalesce(sum(case when t.priority = 'HIGH' then 1 else 0 end), 0) as high, " +
+            "coalesce(sum(case when t.worker_id is null then 1 else 0 end), 0) as unassigned " +
+            "from tasks t where t.team_id = :teamId and t.deleted_at is null",
+            nativeQuery = true)
+    TaskStatsView countStatsByTeamId(@Param("teamId") Long teamId);
+
+    // 마감 스캐너용: (deadline, status, deleted_at) 인덱스에서 (afterDeadline, to] 구간만 (deadline, id) 순으로 스캔
+    @Query("select t.id as id, t.team.id as teamId, t.worker.id as workerId, t.deadline as deadline " +
+            "from Task t " +
+            "where t.deadline <= :to " +
+            "and (t.deadline > :afterDeadline or (t.deadline = :afterDeadline and t.id > :afterId)) " +
+            "and t.status <> com.cowork.domain.task.entity.TaskStatus.DONE and t.deletedAt is null " +
+            "order by t.deadline asc, t.id asc")
+    List<TaskDeadlineView> findDeadlinesBetween(@Param("afterDeadline") LocalDateTime afterDeadline,
+                                                @Param("afterId") Long afterId,
+                                                @Param("to") LocalDateTime to,
+                                                Limit limit);
 }
@@ -0,0 +1,8 @@
+package com.cowork.domain.task.repository;
+
+public interface TaskSearchHit {
+
+    Long getId();
+
+    Double getScore();
+}
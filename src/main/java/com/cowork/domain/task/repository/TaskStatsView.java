@@ -0,0 +1,20 @@
+package com.cowork.domain.task.repository;
+
+public interface TaskStatsView {
+
+    long getTotal();
+
+    long getTodo();
+
+    long getInProgress();
+
+    long getDone();
+
+    long getLow();
+
+    long getMedium();
+
+    long getHigh();
+
+    long getUnassigned();
+}
@@ -0,0 +1,13 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.Task;
+
+import java.util.stream.Stream;
+
+public interface TaskStreamRepository {
+
+    /**
+     * 내보내기용 전진 전용 스트림. 호출 측에서 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     */
+    Stream<Task> streamTeamTasks(Long teamId);
+}
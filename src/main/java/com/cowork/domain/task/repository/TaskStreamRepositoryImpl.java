@@ -0,0 +1,34 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+/**
+ * fetch size 는 드라이버마다 의미가 달라 설정으로 받습니다.
+ * MySQL Connector/J 는 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍하지만, H2 등은 음수 값을 거부합니다.
+ */
+class TaskStreamRepositoryImpl implements TaskStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${cowork.task.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    @Override
+    public Stream<Task> streamTeamTasks(Long teamId) {
+        return entityManager.createQuery("select t from Task t " +
+                        "join fetch t.team left join fetch t.worker " +
+                        "where t.team.id = :teamId and t.deletedAt is null " +
+                        "order by t.createdAt asc, t.id asc", Task.class)
+                .setParameter("teamId", teamId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
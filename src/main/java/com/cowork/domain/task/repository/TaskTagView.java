@@ -0,0 +1,10 @@
+package com.cowork.domain.task.repository;
+
+public interface TaskTagView {
+
+    Long getTeamId();
+
+    Long getVersion();
+
+    Long getCommentCount();
+}
@@ -0,0 +1,39 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.TeamTaskDeadlineStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface TeamTaskDeadlineStatsRepository
+        extends JpaRepository<TeamTaskDeadlineStats, TeamTaskDeadlineStats.Key> {
+
+    @Modifying
+    @Query(value = "insert into team_task_deadline_stats (team_id, deadline_date, open_count) " +
+            "values (:teamId, :deadlineDate, :delta) " +
+            "on duplicate key update open_count = open_count + :delta",
+            nativeQuery = true)
+    void applyDelta(@Param("teamId") Long teamId,
+                    @Param("deadlineDate") LocalDate deadlineDate,
+                    @Param("delta") long delta);
+
+    // (team_id, deadline_date) 기본 키 범위 스캔: 업무 수가 아닌 마감일 종류 수에 비례
+    @Query("select coalesce(sum(d.openCount), 0) from TeamTaskDeadlineStats d " +
+            "where d.teamId = :teamId and d.deadlineDate < :today")
+    long sumOverdue(@Param("teamId") Long teamId, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query("delete from TeamTaskDeadlineStats d where d.teamId = :teamId")
+    void deleteByTeamId(@Param("teamId") Long teamId);
+
+    @Modifying
+    @Query(value = "insert into team_task_deadline_stats (team_id, deadline_date, open_count) " +
+            "select t.team_id, cast(t.deadline as date), count(*) from tasks t " +
+            "where t.team_id = :teamId and t.deleted_at is null and t.status <> 'DONE' and t.deadline is not null " +
+            "group by t.team_id, cast(t.deadline as date)",
+            nativeQuery = true)
+    void rebuild(@Param("teamId") Long teamId);
+}
@@ -0,0 +1,77 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.TeamTaskStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TeamTaskStatsRepository extends JpaRepository<TeamTaskStats, Long> {
+
+    @Modifying
+    @Query(value = "update team_task_stats set " +
+            "total_count = total_count + :total, " +
+            "todo_count = todo_count + :todo, " +
+            "in_progress_count = in_progress_count + :inProgress, " +
+            "done_count = done_count + :done, " +
+            "low_count = low_count + :low, " +
+            "medium_count = medium_count + :medium, " +
+            "high_count = high_count + :high, " +
+            "unassigned_count = unassigned_count + :unassigned, " +
+            "change_stamp = change_stamp + 1, " +
+            "updated_at = current_timestamp " +
+            "where team_id = :teamId",
+            nativeQuery = true)
+    int applyDelta(@Param("teamId") Long teamId,
+                   @Param("total") long total,
+                   @Param("todo") long todo,
+                   @Param("inProgress") long inProgress,
+                   @Param("done") long done,
+                   @Param("low") long low,
+                   @Param("medium") long medium,
+                   @Param("high") long high,
+                   @Param("unassigned") long unassigned);
+
+    @Modifying
+    @Query(value = "insert into team_task_stats " +
+            "(team_id, total_count, todo_count, in_progress_count, done_count, " +
+            "low_count, medium_count, high_count, unassigned_count, change_stamp, updated_at) " +
+            "values (:teamId, :total, :todo, :inProgress, :done, :low, :medium, :high, :unassigned, 1, current_timestamp) " +
+            "on duplicate key update " +
+            "total_count = :total, todo_count = :todo, in_progress_count = :inProgress, done_count = :done, " +
+            "low_count = :low, medium_count = :medium, high_count = :high, unassigned_count = :unassigned, " +
+            "change_stamp = change_stamp + 1, updated_at = current_timestamp",
+            nativeQuery = true)
+    void upsert(@Param("teamId") Long teamId,
+                @Param("total") long total,
+                @Param("todo") long todo,
+                @Param("inProgress") long inProgress,
+                @Param("done") long done,
+                @Param("low") long low,
+                @Param("medium") long medium,
+                @Param("high") long high,
+                @Param("unassigned") long unassigned);
+
+    /**
+     * 카운터 행이 없으면 0 으로 만듭니다. 이미 있으면 값과 변경 번호를 그대로 두고 행만 잠급니다.
+     */
+    @Modifying
+    @Query(value = "insert into team_task_stats " +
+            "(team_id, total_count, todo_count, in_progress_count, done_count, " +
+            "low_count, medium_count, high_count, unassigned_count, change_stamp, updated_at) " +
+            "values (:teamId, 0, 0, 0, 0, 0, 0, 0, 0, 0, current_timestamp) " +
+            "on duplicate key update updated_at = updated_at",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("teamId") Long teamId);
+
+    @Query("select s.changeStamp from TeamTaskStats s where s.teamId = :teamId")
+    Optional<Long> findChangeStamp(@Param("teamId") Long teamId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TeamTaskStats s where s.teamId = :teamId")
+    Optional<TeamTaskStats> findForUpdate(@Param("teamId") Long teamId);
+}
@@ -0,0 +1,12 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.TaskChange;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버퍼에 쌓였다가 task_activities 에 한 행으로 저장되는 활동 기록.
+ */
+record TaskActivityEntry(Long taskId, Long teamId, Long actorId, TaskChange change, Long version,
+                         LocalDateTime occurredAt) {
+}
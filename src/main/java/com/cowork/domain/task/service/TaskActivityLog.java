@@ -0,0 +1,300 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업무 활동 기록을 요청 트랜잭션 밖에서 저장합니다.
+ * 커밋된 변경만 고정 크기 원형 버퍼(ArrayBlockingQueue)에 넣고, 전용 스레드가 batch-size 건 또는
+ * flush-interval 마다 JDBC 배치 INSERT 로 저장하므로 업무 수정 요청에는 INSERT 비용이 더해지지 않습니다.
+ * 기록은 커밋 직후(요청이 아직 DB 커넥션을 쥐고 있는 동안) 버퍼에 넣으므로 기다리지 않습니다.
+ * 버퍼가 가득 차 있으면 기록을 바로 버리고 지표로 남깁니다.
+ *
+ * <p>저장에 실패한 배치는 버리지 않고 간격을 늘려 가며(최대 30초) 다시 시도합니다. 그동안 새 기록은 버퍼에 쌓이고,
+ * 버퍼가 가득 차면 그때부터 버려집니다.
+ * 종료 시에는 웹 서버가 요청 처리를 멈춘 뒤 버퍼에 남은 기록을 모두 저장하고 나서 DataSource 가 닫힙니다.
+ * 프로세스가 강제로 종료되면 아직 저장되지 않은 기록, 즉 버퍼와 재시도 중인 배치 전체(최대 buffer-size + batch-size 건)가 유실됩니다.
+ */
+@Slf4j
+@Component
+public class TaskActivityLog implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "insert into task_activities " +
+            "(task_id, team_id, actor_id, type, field, old_value, new_value, version, occurred_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+    // 종료 중에는 무한히 재시도할 수 없으므로 이 횟수만큼 시도한 뒤 버립니다.
+    private static final int SHUTDOWN_WRITE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<TaskActivityEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Thread flusher;
+    // 저장하지 못한 배치. flusher 스레드만 사용하며, stop() 은 스레드가 끝난 뒤에 이어받습니다.
+    private final List<TaskActivityEntry> pending;
+    private final CountDownLatch stopSignal = new CountDownLatch(1);
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter writeFailures;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+
+    public TaskActivityLog(JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${cowork.task.activity.buffer-size:8192}") int bufferSize,
+                           @Value("${cowork.task.activity.batch-size:500}") int batchSize,
+                           @Value("${cowork.task.activity.flush-interval:1s}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.pending = new ArrayList<>(batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        // 가상 스레드 모드와 무관하게 JDBC 배치를 오래 수행하는 전용 플랫폼 스레드
+        this.flusher = new CustomizableThreadFactory("task-activity-").newThread(this::flushLoop);
+
+        Gauge.builder("cowork.task.activity.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+        this.written = Counter.builder("cowork.task.activity.written").register(meterRegistry);
+        this.dropped = Counter.builder("cowork.task.activity.dropped").register(meterRegistry);
+        this.writeFailures = Counter.builder("cowork.task.activity.write.failures").register(meterRegistry);
+    }
+
+    public void recordCreated(Task task, Long actorId) {
+        record(task, actorId, List.of(TaskChange.created()));
+    }
+
+    /**
+     * 업무 도메인 메서드가 남긴 변경 내역을 기록합니다. 버전이 반영되도록 flush 이후에 호출해야 합니다.
+     */
+    public void recordChanges(Task task, Long actorId) {
+        record(task, actorId, task.drainChanges());
+    }
+
+    private void record(Task task, Long actorId, List<TaskChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskActivityEntry> entries = changes.stream()
+                .map(change -> new TaskActivityEntry(task.getId(), task.getTeam().getId(), actorId, change,
+                        task.getVersion(), now))
+                .toList();
+
+        // 롤백된 변경은 기록하지 않습니다. afterCommit 은 커넥션을 반납하기 전에 실행되므로 enqueue 는 기다리지 않아야 합니다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.forEach(TaskActivityLog.this::enqueue);
+                }
+            });
+        } else {
+            entries.forEach(this::enqueue);
+        }
+    }
+
+    private void enqueue(TaskActivityEntry entry) {
+        if (!accepting) {
+            drop(entry, "activity log is stopped");
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            drop(entry, "buffer is full");
+        }
+    }
+
+    private void drop(TaskActivityEntry entry, String reason) {
+        dropped.increment();
+        log.warn("Dropped task activity for task {} ({}): {}", entry.taskId(), entry.change().type(), reason);
+    }
+
+    private void flushLoop() {
+        long backoffNanos = INITIAL_RETRY_BACKOFF.toNanos();
+        // stop() 은 스레드를 인터럽트하지 않으므로 진행 중인 배치 INSERT 는 끝까지 수행됩니다.
+        while (running) {
+            if (pending.isEmpty()) {
+                try {
+                    collect(pending);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+            if (pending.isEmpty() || write(pending)) {
+                pending.clear();
+                backoffNanos = INITIAL_RETRY_BACKOFF.toNanos();
+                continue;
+            }
+            // 실패한 배치는 그대로 두고 기다렸다가 다시 시도합니다. stop() 이 호출되면 바로 깨어납니다.
+            try {
+                stopSignal.await(backoffNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            backoffNanos = Math.min(backoffNanos * 2, MAX_RETRY_BACKOFF.toNanos());
+        }
+    }
+
+    /**
+     * 첫 기록이 들어온 뒤 flush-interval 이 지나거나 batch-size 가 찰 때까지 모읍니다.
+     */
+    private void collect(List<TaskActivityEntry> batch) throws InterruptedException {
+        TaskActivityEntry first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (running && batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            TaskActivityEntry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 재시도 중이던 배치와 버퍼에 남은 기록을 호출 스레드에서 모두 저장합니다.
+     */
+    void flushRemaining() {
+        List<TaskActivityEntry> batch = new ArrayList<>(batchSize);
+        // 스레드가 아직 배치를 쓰고 있으면 그 배치는 스레드에 맡깁니다.
+        if (!flusher.isAlive()) {
+            batch.addAll(pending);
+            pending.clear();
+        }
+        do {
+            writeWithRetries(batch);
+            batch.clear();
+        } while (buffer.drainTo(batch, batchSize) > 0);
+    }
+
+    private void writeWithRetries(List<TaskActivityEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoffMillis = INITIAL_RETRY_BACKOFF.toMillis();
+        for (int attempt = 1; attempt <= SHUTDOWN_WRITE_ATTEMPTS; attempt++) {
+            if (write(batch)) {
+                return;
+            }
+            if (attempt < SHUTDOWN_WRITE_ATTEMPTS) {
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis *= 2;
+            }
+        }
+        dropped.increment(batch.size());
+        log.error("Dropped {} task activities that could not be written during shutdown", batch.size());
+    }
+
+    /**
+     * 배치를 한 번 저장합니다. 실패하면 false 를 반환하며, 배치는 호출한 쪽이 보관합니다.
+     */
+    private boolean write(List<TaskActivityEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), TaskActivityLog::bind);
+            written.increment(batch.size());
+            return true;
+        } catch (DataAccessException e) {
+            writeFailures.increment();
+            log.warn("Failed to write {} task activities; will retry", batch.size(), e);
+            return false;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, TaskActivityEntry entry) throws SQLException {
+        TaskChange change = entry.change();
+        ps.setLong(1, entry.taskId());
+        ps.setLong(2, entry.teamId());
+        setLong(ps, 3, entry.actorId());
+        ps.setString(4, change.type().name());
+        ps.setString(5, change.field() != null ? change.field().name() : null);
+        ps.setString(6, change.oldValue());
+        ps.setString(7, change.newValue());
+        setLong(ps, 8, entry.version());
+        ps.setTimestamp(9, Timestamp.valueOf(entry.occurredAt()));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        stopSignal.countDown();
+        try {
+            // 진행 중인 배치를 마칠 때까지 기다린 뒤 남은 기록을 이 스레드에서 저장합니다.
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+        log.info("Task activity log stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 늦게 멈춰, 마지막 요청의 기록까지 저장한 뒤 종료합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskActivityResponse;
+import com.cowork.domain.task.entity.TaskActivity;
+import com.cowork.domain.task.repository.TaskActivityRepository;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.task.repository.TaskTagView;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.global.pagination.KeysetCursor;
+import com.cowork.global.pagination.PageSizeResolver;
+import com.cowork.global.response.CursorPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 업무 활동 기록 조회. 기록은 {@link TaskActivityLog} 가 비동기로 저장하므로 최대 flush-interval 만큼 늦게 보일 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskActivityService {
+
+    private final TaskActivityRepository taskActivityRepository;
+    private final TaskRepository taskRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final PageSizeResolver pageSizeResolver;
+
+    public CursorPageResponse<TaskActivityResponse> getActivity(String loginId, Long taskId, String cursor, Integer size) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+
+        // 멤버십 검증에는 팀 id 만 필요하므로 업무 엔티티를 로딩하지 않습니다.
+        TaskTagView task = taskRepository.findTagById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+        if (!teamMembershipCache.isMember(requester.id(), task.getTeamId())) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        int pageSize = pageSizeResolver.resolve(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TaskActivity> activities;
+        if (cursor == null || cursor.isBlank()) {
+            activities = taskActivityRepository.findActivityFirstPage(taskId, limit);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            activities = taskActivityRepository.findActivityBefore(taskId, before.createdAt(), before.id(), limit);
+        }
+
+        return CursorPageResponse.of(activities, pageSize, TaskActivityResponse::from,
+                activity -> new KeysetCursor(activity.getOccurredAt(), activity.getId()).encode());
+    }
+}
@@ -0,0 +1,86 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.service.TaskArchiveService.ArchiveResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 삭제 업무를 보관 테이블로 옮기는 작업.
+ * 배치마다 개별 트랜잭션으로 잠금 시간을 짧게 유지하고, 배치 사이에 쉬어 서비스 트래픽에 주는 영향을 줄입니다.
+ */
+@Slf4j
+@Component
+public class TaskArchiveJob {
+
+    private final TaskArchiveService taskArchiveService;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatches;
+    private final Counter archivedTasks;
+    private final Counter archivedComments;
+    private final Timer batchTimer;
+
+    public TaskArchiveJob(TaskArchiveService taskArchiveService,
+                          MeterRegistry meterRegistry,
+                          @Value("${cowork.task.archive.retention:30d}") Duration retention,
+                          @Value("${cowork.task.archive.batch-size:200}") int batchSize,
+                          @Value("${cowork.task.archive.batch-pause:200ms}") Duration batchPause,
+                          @Value("${cowork.task.archive.max-batches:500}") int maxBatches) {
+        this.taskArchiveService = taskArchiveService;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatches = maxBatches;
+        this.archivedTasks = rowCounter(meterRegistry, "archive", "tasks");
+        this.archivedComments = rowCounter(meterRegistry, "archive", "comments");
+        this.batchTimer = Timer.builder("cowork.task.archive.batch")
+                .description("Duration of one archive batch transaction")
+                .register(meterRegistry);
+    }
+
+    static Counter rowCounter(MeterRegistry meterRegistry, String operation, String table) {
+        return Counter.builder("cowork.task.archive.rows")
+                .description("Rows moved between live and archive tables")
+                .tags("operation", operation, "table", table)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${cowork.task.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int totalTasks = 0;
+
+        // 한 번 실행에서 처리할 양을 제한해 새벽 시간대를 넘기지 않도록 합니다.
+        for (int i = 0; i < maxBatches; i++) {
+            ArchiveResult result = batchTimer.record(() -> taskArchiveService.archiveBatch(cutoff, batchSize));
+            archivedTasks.increment(result.tasks());
+            archivedComments.increment(result.comments());
+            totalTasks += result.tasks();
+
+            if (result.tasks() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("Archived {} tasks deleted before {}", totalTasks, cutoff);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
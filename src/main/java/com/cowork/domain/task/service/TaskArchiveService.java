@@ -0,0 +1,134 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.ArchivedTask;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskArchiveRepository;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 업무 보관/복원.
+ * 삭제 시점에 집계 카운터와 마감 목록에서 이미 빠졌으므로 보관은 행 이동만 수행하고,
+ * 복원은 새로 생성된 업무처럼 카운터와 구독자에게 반영합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskArchiveService {
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskRepository taskRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter restoredTasks;
+    private final Counter restoredComments;
+
+    public TaskArchiveService(TaskArchiveRepository taskArchiveRepository,
+                              TaskRepository taskRepository,
+                              TeamMembershipCache teamMembershipCache,
+                              UserIdentityCache userIdentityCache,
+                              TeamTaskStatsService teamTaskStatsService,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.taskRepository = taskRepository;
+        this.teamMembershipCache = teamMembershipCache;
+        this.userIdentityCache = userIdentityCache;
+        this.teamTaskStatsService = teamTaskStatsService;
+        this.eventPublisher = eventPublisher;
+        this.restoredTasks = TaskArchiveJob.rowCounter(meterRegistry, "restore", "tasks");
+        this.restoredComments = TaskArchiveJob.rowCounter(meterRegistry, "restore", "comments");
+    }
+
+    /**
+     * cutoff 이전에 삭제된 업무를 최대 batchSize 건 댓글과 함께 보관 테이블로 옮깁니다.
+     */
+    @Transactional
+    public ArchiveResult archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = taskArchiveRepository.findArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return ArchiveResult.EMPTY;
+        }
+
+        taskArchiveRepository.copyTasksToArchive(ids, cutoff, LocalDateTime.now());
+        int comments = taskArchiveRepository.copyCommentsToArchive(ids, cutoff);
+        taskArchiveRepository.deleteComments(ids, cutoff);
+        taskArchiveRepository.deleteDeadlineAlerts(ids, cutoff);
+        int tasks = taskArchiveRepository.deleteTasks(ids, cutoff);
+        return new ArchiveResult(tasks, comments);
+    }
+
+    /**
+     * 삭제된 업무를 복원합니다. 보관된 업무는 댓글과 함께 tasks 로 되돌리며,
+     * 그 사이 상위 업무가 보관되었으면 최상위 업무로 복원합니다.
+     * 보관 배치가 잡은 행이면 보관이 끝날 때까지 기다렸다가 보관 테이블에서 복원합니다.
+     */
+    @Transactional
+    public TaskResponse restoreTask(String loginId, Long taskId) {
+        Task task = taskRepository.findByIdIncludingDeletedForUpdate(taskId)
+                .map(deleted -> {
+                    if (!deleted.isDeleted()) {
+                        throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+                    }
+                    validateTeamMembership(loginId, deleted.getTeam().getId());
+                    return deleted;
+                })
+                .orElseGet(() -> restoreFromArchive(loginId, taskId));
+
+        task.restore();
+        taskRepository.saveAndFlush(task);
+        teamTaskStatsService.apply(task.getTeam().getId(), TaskStatsSnapshot.NONE, TaskStatsSnapshot.of(task));
+
+        TaskResponse response = TaskResponse.from(task);
+        eventPublisher.publishEvent(TaskChangeEvent.created(response));
+        return response;
+    }
+
+    private Task restoreFromArchive(String loginId, Long taskId) {
+        ArchivedTask archived = taskArchiveRepository.findById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+        validateTeamMembership(loginId, archived.getTeamId());
+
+        Task parent = archived.getParentId() == null ? null
+                : taskRepository.findById(archived.getParentId()).orElse(null);
+        taskArchiveRepository.copyTaskFromArchive(taskId,
+                parent != null ? parent.getId() : null,
+                Task.childPathOf(parent),
+                Task.childDepthOf(parent));
+        int comments = taskArchiveRepository.copyCommentsFromArchive(taskId);
+        taskArchiveRepository.deleteArchivedComments(taskId);
+        taskArchiveRepository.deleteArchivedTask(taskId);
+
+        restoredTasks.increment();
+        restoredComments.increment(comments);
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+    }
+
+    private void validateTeamMembership(String loginId, Long teamId) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+    }
+
+    public record ArchiveResult(int tasks, int comments) {
+
+        static final ArchiveResult EMPTY = new ArchiveResult(0, 0);
+    }
+}
@@ -0,0 +1,313 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskBatchCreateRequest;
+import com.cowork.domain.task.dto.TaskBatchItemResult;
+import com.cowork.domain.task.dto.TaskBatchResponse;
+import com.cowork.domain.task.dto.TaskBatchUpdateItem;
+import com.cowork.domain.task.dto.TaskBatchUpdateRequest;
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.team.repository.TeamMemberRepository;
+import com.cowork.domain.team.repository.TeamRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.global.metrics.ErrorMetrics;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 업무 일괄 생성/수정.
+ * 멤버십 검증은 팀 단위로 한 번, 담당자/상위 업무 조회는 각각 한 번의 IN 쿼리로 처리하고
+ * INSERT/UPDATE 는 hibernate.jdbc.batch_size 단위로 JDBC 배치 전송됩니다.
+ * 일괄 수정은 단건 수정과 같이 대상 행을 PESSIMISTIC_WRITE 로 잠근 뒤 충돌을 판단하므로 FIELD_MERGE 병합도 안전합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final UserRepository userRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final Validator validator;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final TaskConflictResolver taskConflictResolver;
+    private final TaskActivityLog taskActivityLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ErrorMetrics errorMetrics;
+
+    @Value("${cowork.task.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Transactional
+    public TaskBatchResponse createTasks(String loginId, Long teamId, TaskBatchCreateRequest request) {
+        List<TaskCreateRequest> items = request.getTasks();
+        validateBatchSize(items.size());
+
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
+        validateTeamMembership(loginId, teamId);
+
+        WorkerLookup workers = lookupWorkers(teamId, items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskCreateRequest::getWorkerLoginId));
+
+        Set<Long> parentIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskCreateRequest::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // 상위 업무를 잠가 진행 중인 이동이 끝난 뒤의 경로로 하위 업무 경로를 정합니다.
+        Map<Long, Task> parents = parentIds.isEmpty()
+                ? Map.of()
+                : taskRepository.findAllForUpdateByIdIn(List.copyOf(parentIds)).stream()
+                        .filter(parent -> !parent.isDeleted())
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[items.size()];
+        Map<Integer, Task> created = new LinkedHashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskCreateRequest item = items.get(i);
+
+            String violation = firstViolation(item);
+            if (violation != null) {
+                results[i] = TaskBatchItemResult.failure(i, ErrorCode.INVALID_INPUT_VALUE, violation);
+                continue;
+            }
+
+            ErrorCode workerError = workers.check(item.getWorkerLoginId());
+            if (workerError != null) {
+                results[i] = TaskBatchItemResult.failure(i, workerError);
+                continue;
+            }
+
+            Task parent = null;
+            if (item.getParentId() != null) {
+                parent = parents.get(item.getParentId());
+                if (parent == null) {
+                    results[i] = TaskBatchItemResult.failure(i, ErrorCode.TASK_NOT_FOUND);
+                    continue;
+                }
+                if (!parent.getTeam().getId().equals(teamId)) {
+                    results[i] = TaskBatchItemResult.failure(i, ErrorCode.INVALID_PARENT_TASK);
+                    continue;
+                }
+            }
+
+            Task task = Task.builder()
+                    .team(team)
+                    .worker(workers.get(item.getWorkerLoginId()))
+                    .parent(parent)
+                    .path(Task.childPathOf(parent))
+                    .depth(Task.childDepthOf(parent))
+                    .title(item.getTitle())
+                    .content(item.getContent())
+                    .status(item.getStatus() != null ? item.getStatus() : TaskStatus.TODO)
+                    .priority(item.getPriority() != null ? item.getPriority() : TaskPriority.MEDIUM)
+                    .deadline(toDeadline(item.getDeadline()))
+                    .build();
+            created.put(i, task);
+        }
+
+        taskRepository.saveAll(created.values());
+        taskRepository.flush();
+
+        List<TaskStatsSnapshot> after = created.values().stream().map(TaskStatsSnapshot::of).toList();
+        teamTaskStatsService.applyAll(teamId,
+                Collections.nCopies(after.size(), TaskStatsSnapshot.NONE), after);
+
+        Long actorId = userIdentityCache.get(loginId).id();
+        created.forEach((index, task) -> {
+            TaskResponse response = TaskResponse.from(task);
+            results[index] = TaskBatchItemResult.success(index, response);
+            taskActivityLog.recordCreated(task, actorId);
+            eventPublisher.publishEvent(TaskChangeEvent.created(response));
+        });
+        return TaskBatchResponse.of(Arrays.asList(results));
+    }
+
+    @Transactional
+    public TaskBatchResponse updateTasks(String loginId, Long teamId, TaskBatchUpdateRequest request) {
+        List<TaskBatchUpdateItem> items = request.getTasks();
+        validateBatchSize(items.size());
+        validateTeamMembership(loginId, teamId);
+
+        List<Long> taskIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskBatchUpdateItem::getTaskId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, Task> tasks = taskIds.isEmpty()
+                ? Map.of()
+                : taskRepository.findAllForUpdateByIdIn(taskIds).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        WorkerLookup workers = lookupWorkers(teamId, items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskBatchUpdateItem::getWorkerLoginId));
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[items.size()];
+        Map<Integer, Task> updated = new LinkedHashMap<>();
+        List<TaskStatsSnapshot> before = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchUpdateItem item = items.get(i);
+
+            String violation = firstViolation(item);
+            if (violation != null) {
+                results[i] = TaskBatchItemResult.failure(i, ErrorCode.INVALID_INPUT_VALUE, violation);
+                continue;
+            }
+            // 같은 업무를 한 배치에서 두 번 수정하면 버전 검증이 무의미해지므로 거부
+            if (!seen.add(item.getTaskId())) {
+                results[i] = TaskBatchItemResult.failure(i, ErrorCode.INVALID_INPUT_VALUE, "Duplicate task in batch");
+                continue;
+            }
+
+            Task task = tasks.get(item.getTaskId());
+            if (task == null || task.isDeleted() || !task.getTeam().getId().equals(teamId)) {
+                results[i] = TaskBatchItemResult.failure(i, ErrorCode.TASK_NOT_FOUND);
+                continue;
+            }
+
+            ErrorCode workerError = workers.check(item.getWorkerLoginId());
+            if (workerError != null) {
+                results[i] = TaskBatchItemResult.failure(i, workerError);
+                continue;
+            }
+
+            User worker = item.getWorkerLoginId() != null ? workers.get(item.getWorkerLoginId()) : null;
+            LocalDateTime deadline = toDeadline(item.getDeadline());
+            if (taskConflictResolver.isConflict(task, item.getVersion(), TaskConflictResolver.changes(
+                    item.getTitle(), item.getContent(), item.getStatus(), item.getPriority(),
+                    deadline, worker != null ? worker.getId() : null))) {
+                results[i] = TaskBatchItemResult.failure(i, ErrorCode.TASK_VERSION_CONFLICT);
+                errorMetrics.record(ErrorCode.TASK_VERSION_CONFLICT, false);
+                continue;
+            }
+
+            before.add(TaskStatsSnapshot.of(task));
+            if (worker != null) {
+                task.assignWorker(worker);
+            }
+            task.updateTask(
+                    item.getTitle(),
+                    item.getContent(),
+                    item.getStatus(),
+                    item.getPriority(),
+                    deadline
+            );
+            updated.put(i, task);
+        }
+
+        try {
+            taskRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 행을 잠갔으므로 드물지만, 잠금을 거치지 않는 다른 수정과 겹치면 배치 전체가 롤백됩니다.
+            throw new CustomException(ErrorCode.TASK_VERSION_CONFLICT,
+                    "A task in the batch has been modified by another user", e);
+        }
+
+        teamTaskStatsService.applyAll(teamId, before,
+                updated.values().stream().map(TaskStatsSnapshot::of).toList());
+
+        Long actorId = userIdentityCache.get(loginId).id();
+        updated.forEach((index, task) -> {
+            TaskResponse response = TaskResponse.from(task);
+            results[index] = TaskBatchItemResult.success(index, response);
+            taskActivityLog.recordChanges(task, actorId);
+            eventPublisher.publishEvent(TaskChangeEvent.updated(response));
+        });
+        return TaskBatchResponse.of(Arrays.asList(results));
+    }
+
+    private void validateBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Batch size must be less than or equal to " + maxBatchSize);
+        }
+    }
+
+    private void validateTeamMembership(String loginId, Long teamId) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+    }
+
+    private String firstViolation(Object item) {
+        if (item == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private LocalDateTime toDeadline(LocalDate deadline) {
+        return deadline != null ? deadline.atTime(LocalTime.MAX) : null;
+    }
+
+    private WorkerLookup lookupWorkers(Long teamId, Stream<String> loginIds) {
+        Set<String> distinct = loginIds.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinct.isEmpty()) {
+            return new WorkerLookup(Map.of(), Set.of());
+        }
+
+        Map<String, User> users = userRepository.findAllByLoginIdIn(distinct).stream()
+                .collect(Collectors.toMap(User::getLoginId, Function.identity()));
+        Set<Long> memberIds = users.isEmpty()
+                ? Set.of()
+                : new HashSet<>(teamMemberRepository.findMemberUserIds(teamId,
+                        users.values().stream().map(User::getId).toList()));
+        return new WorkerLookup(users, memberIds);
+    }
+
+    private record WorkerLookup(Map<String, User> users, Set<Long> memberIds) {
+
+        User get(String loginId) {
+            return loginId == null ? null : users.get(loginId);
+        }
+
+        ErrorCode check(String loginId) {
+            if (loginId == null) {
+                return null;
+            }
+            User user = users.get(loginId);
+            if (user == null) {
+                return ErrorCode.USER_NOT_FOUND;
+            }
+            return memberIds.contains(user.getId()) ? null : ErrorCode.WORKER_NOT_TEAM_MEMBER;
+        }
+    }
+}
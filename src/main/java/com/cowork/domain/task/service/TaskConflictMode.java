@@ -0,0 +1,11 @@
+package com.cowork.domain.task.service;
+
+/**
+ * 업무 수정 요청의 version 이 현재 버전과 다를 때의 처리 방식.
+ */
+public enum TaskConflictMode {
+    /** 버전이 다르면 항상 거절합니다. */
+    STRICT,
+    /** 기준 버전 이후 다른 요청이 바꾼 필드와 겹치지 않으면 현재 상태에 병합합니다. */
+    FIELD_MERGE
+}
@@ -0,0 +1,87 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskField;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 오래된 version 으로 들어온 업무 수정 요청을 거절할지 판단합니다.
+ * FIELD_MERGE 모드에서는 기준 버전 이후 바뀐 필드 중 이번 요청도 다른 값으로 바꾸려는 필드가 있을 때만 충돌입니다.
+ * 같은 필드라도 이미 같은 값이면 두 요청의 결과가 같으므로 충돌로 보지 않습니다.
+ * 판단과 반영 사이에 다른 수정이 끼어들지 않도록 호출 측은 업무 행을 잠근 상태여야 합니다.
+ */
+@Component
+public class TaskConflictResolver {
+
+    private final TaskConflictMode mode;
+    private final Counter merged;
+
+    public TaskConflictResolver(MeterRegistry meterRegistry,
+                                @Value("${cowork.task.conflict.mode:FIELD_MERGE}") TaskConflictMode mode) {
+        this.mode = mode;
+        this.merged = Counter.builder("cowork.task.conflicts.merged")
+                .description("Stale task updates merged because they touched different fields")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param baseVersion 클라이언트가 마지막으로 본 버전. null 이면 버전 검증을 하지 않습니다.
+     * @param changes     요청이 바꾸려는 필드와 값 (값이 null 인 필드는 바꾸지 않음)
+     */
+    public boolean isConflict(Task task, Long baseVersion, Map<TaskField, Object> changes) {
+        if (baseVersion == null || baseVersion.equals(task.getVersion())) {
+            return false;
+        }
+        if (mode == TaskConflictMode.STRICT || baseVersion > task.getVersion()) {
+            return true;
+        }
+
+        Set<TaskField> changedSince = task.getFieldVersions().changedSince(baseVersion);
+        for (Map.Entry<TaskField, Object> change : changes.entrySet()) {
+            if (change.getValue() != null
+                    && changedSince.contains(change.getKey())
+                    && !Objects.equals(change.getValue(), currentValue(task, change.getKey()))) {
+                return true;
+            }
+        }
+        merged.increment();
+        return false;
+    }
+
+    /**
+     * 수정 요청 값을 필드별로 모읍니다. worker 는 사용자 id 로 비교합니다.
+     */
+    public static Map<TaskField, Object> changes(String title, String content, TaskStatus status,
+                                                 TaskPriority priority, LocalDateTime deadline, Long workerId) {
+        Map<TaskField, Object> changes = new EnumMap<>(TaskField.class);
+        changes.put(TaskField.TITLE, title);
+        changes.put(TaskField.CONTENT, content);
+        changes.put(TaskField.STATUS, status);
+        changes.put(TaskField.PRIORITY, priority);
+        changes.put(TaskField.DEADLINE, deadline);
+        changes.put(TaskField.WORKER, workerId);
+        return changes;
+    }
+
+    private static Object currentValue(Task task, TaskField field) {
+        return switch (field) {
+            case TITLE -> task.getTitle();
+            case CONTENT -> task.getContent();
+            case STATUS -> task.getStatus();
+            case PRIORITY -> task.getPriority();
+            case DEADLINE -> task.getDeadline();
+            case WORKER -> task.workerId();
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 업무 변경 이벤트를 마감 알림 갱신으로 연결합니다.
+ * 트랜잭션 이벤트 리스너에는 @Transactional 을 둘 수 없으므로 클래스 전체가 트랜잭션인 {@link TaskDeadlineService} 와 분리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskDeadlineEventListener {
+
+    private final TaskDeadlineService taskDeadlineService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangeEvent event) {
+        if (event.getType() == TaskEventType.TASK_CREATED
+                || event.getType() == TaskEventType.TASK_UPDATED
+                || event.getType() == TaskEventType.TASK_DELETED) {
+            taskDeadlineService.refreshAlert(event);
+        }
+    }
+}
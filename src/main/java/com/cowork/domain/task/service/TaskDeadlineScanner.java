@@ -0,0 +1,63 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.repository.TaskDeadlineView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 임박/지연 구간에 새로 들어온 업무를 찾는 스캐너.
+ * 상태별 watermark 부터 이번 실행의 상한까지만 마감일 인덱스를 (deadline, id) keyset 으로 훑으므로,
+ * 비용은 전체 업무 수가 아니라 그 사이 상태가 바뀐 업무 수에 비례합니다.
+ * 배치마다 개별 트랜잭션이며, 도중에 실패하면 watermark 가 유지되어 다음 실행에서 다시 반영합니다 (upsert 이므로 중복 무해).
+ */
+@Slf4j
+@Component
+public class TaskDeadlineScanner {
+
+    private final TaskDeadlineService taskDeadlineService;
+    private final int batchSize;
+
+    public TaskDeadlineScanner(TaskDeadlineService taskDeadlineService,
+                               @Value("${cowork.task.deadline.batch-size:200}") int batchSize) {
+        this.taskDeadlineService = taskDeadlineService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${cowork.task.deadline.scan-interval:PT1M}")
+    public void scan() {
+        LocalDateTime now = LocalDateTime.now();
+        // 지연 먼저: 임박 구간 하한은 now 이므로 두 스캔이 같은 업무를 다루지 않습니다.
+        scan(TaskDeadlineState.OVERDUE, now);
+        scan(TaskDeadlineState.DUE_SOON, now);
+    }
+
+    private void scan(TaskDeadlineState state, LocalDateTime now) {
+        LocalDateTime from = taskDeadlineService.getWatermark(state, now);
+        if (state == TaskDeadlineState.DUE_SOON && from.isBefore(now)) {
+            from = now;
+        }
+        LocalDateTime to = taskDeadlineService.scanEdge(state, now);
+        if (!to.isAfter(from)) {
+            return;
+        }
+
+        LocalDateTime afterDeadline = from;
+        Long afterId = Long.MAX_VALUE;
+        TaskDeadlineView last;
+        do {
+            last = taskDeadlineService.scanBatch(state, afterDeadline, afterId, to, batchSize);
+            if (last != null) {
+                afterDeadline = last.getDeadline();
+                afterId = last.getId();
+            }
+        } while (last != null);
+
+        taskDeadlineService.saveWatermark(state, to);
+        log.debug("Deadline scan {} ({}, {}] done", state, from, to);
+    }
+}
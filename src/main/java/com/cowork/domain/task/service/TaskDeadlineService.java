@@ -0,0 +1,154 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskEventType;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskDeadlineAlert;
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.entity.TaskDeadlineWatermark;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.repository.TaskDeadlineAlertRepository;
+import com.cowork.domain.task.repository.TaskDeadlineView;
+import com.cowork.domain.task.repository.TaskDeadlineWatermarkRepository;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.pagination.KeysetCursor;
+import com.cowork.global.pagination.PageSizeResolver;
+import com.cowork.global.response.CursorPageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 담당자별 마감 임박(DUE_SOON)/지연(OVERDUE) 업무 목록 관리.
+ * <ul>
+ *   <li>시간 경과: {@link TaskDeadlineScanner} 가 상태별 watermark 이후 구간만 마감일 인덱스로 스캔합니다.</li>
+ *   <li>업무 변경: 같은 트랜잭션의 커밋 직전에 해당 업무 한 건의 상태를 다시 계산합니다.</li>
+ * </ul>
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskDeadlineService {
+
+    private final TaskRepository taskRepository;
+    private final TaskDeadlineAlertRepository alertRepository;
+    private final TaskDeadlineWatermarkRepository watermarkRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final PageSizeResolver pageSizeResolver;
+    private final Duration dueSoonWindow;
+    private final Duration initialLookback;
+
+    public TaskDeadlineService(TaskRepository taskRepository,
+                               TaskDeadlineAlertRepository alertRepository,
+                               TaskDeadlineWatermarkRepository watermarkRepository,
+                               UserIdentityCache userIdentityCache,
+                               PageSizeResolver pageSizeResolver,
+                               @Value("${cowork.task.deadline.due-soon-window:24h}") Duration dueSoonWindow,
+                               @Value("${cowork.task.deadline.initial-lookback:30d}") Duration initialLookback) {
+        this.taskRepository = taskRepository;
+        this.alertRepository = alertRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.userIdentityCache = userIdentityCache;
+        this.pageSizeResolver = pageSizeResolver;
+        this.dueSoonWindow = dueSoonWindow;
+        this.initialLookback = initialLookback;
+    }
+
+    /**
+     * 상태별 스캔 상한. DUE_SOON 은 now + 임박 기간, OVERDUE 는 now 까지입니다.
+     */
+    public LocalDateTime scanEdge(TaskDeadlineState state, LocalDateTime now) {
+        return state == TaskDeadlineState.DUE_SOON ? now.plus(dueSoonWindow) : now;
+    }
+
+    /**
+     * 처음 실행 시에는 전체 테이블이 아닌 initial-lookback 기간만 스캔합니다.
+     */
+    public LocalDateTime getWatermark(TaskDeadlineState state, LocalDateTime now) {
+        return watermarkRepository.findById(state)
+                .map(TaskDeadlineWatermark::getWatermark)
+                .orElse(now.minus(initialLookback));
+    }
+
+    @Transactional
+    public void saveWatermark(TaskDeadlineState state, LocalDateTime to) {
+        watermarkRepository.findById(state)
+                .ifPresentOrElse(
+                        watermark -> watermark.advance(to),
+                        () -> watermarkRepository.save(new TaskDeadlineWatermark(state, to)));
+    }
+
+    /**
+     * (afterDeadline, afterId) 이후 to 까지의 미완료 업무를 최대 batchSize 건 반영합니다.
+     * 반영한 마지막 행을 반환하며, 더 이상 없으면 null 입니다.
+     * 조회는 잠그지 않으므로 쓰기 시점에 업무가 여전히 대상인지 다시 확인합니다.
+     */
+    @Transactional
+    public TaskDeadlineView scanBatch(TaskDeadlineState state, LocalDateTime afterDeadline, Long afterId,
+                                      LocalDateTime to, int batchSize) {
+        List<TaskDeadlineView> rows = taskRepository.findDeadlinesBetween(afterDeadline, afterId, to, Limit.of(batchSize));
+        for (TaskDeadlineView row : rows) {
+            if (row.getWorkerId() != null) {
+                alertRepository.upsertIfStillDue(row.getId(), row.getWorkerId(), row.getTeamId(),
+                        state.name(), row.getDeadline());
+            }
+        }
+        return rows.size() < batchSize ? null : rows.get(rows.size() - 1);
+    }
+
+    /**
+     * 업무 생성/수정/삭제 시 마감일, 상태, 담당자 변경을 해당 업무 한 건에 대해 즉시 반영합니다.
+     * 스캐너 watermark 이전으로 마감일이 바뀐 업무도 여기서 처리됩니다.
+     * {@link TaskDeadlineEventListener} 가 변경 트랜잭션의 커밋 직전에 호출하므로 그 트랜잭션에 참여합니다.
+     */
+    @Transactional
+    public void refreshAlert(TaskChangeEvent event) {
+        alertRepository.deleteByTaskId(event.getTaskId());
+        if (event.getType() == TaskEventType.TASK_DELETED) {
+            return;
+        }
+
+        Task task = taskRepository.findById(event.getTaskId()).orElse(null);
+        if (task == null || task.isDeleted() || task.getStatus() == TaskStatus.DONE
+                || task.getDeadline() == null || task.getWorker() == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskDeadlineState state = !task.getDeadline().isAfter(scanEdge(TaskDeadlineState.OVERDUE, now))
+                ? TaskDeadlineState.OVERDUE
+                : !task.getDeadline().isAfter(scanEdge(TaskDeadlineState.DUE_SOON, now))
+                ? TaskDeadlineState.DUE_SOON
+                : null;
+        if (state != null) {
+            alertRepository.upsert(task.getId(), task.getWorker().getId(), task.getTeam().getId(),
+                    state.name(), task.getDeadline());
+        }
+    }
+
+    public CursorPageResponse<TaskResponse> getMyDeadlineTasks(String loginId, TaskDeadlineState state,
+                                                               String cursor, Integer size) {
+        Long userId = userIdentityCache.get(loginId).id();
+
+        int pageSize = pageSizeResolver.resolve(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TaskDeadlineAlert> alerts;
+        if (cursor == null || cursor.isBlank()) {
+            alerts = alertRepository.findUserAlertsFirstPage(userId, state, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            alerts = alertRepository.findUserAlertsAfter(userId, state, after.createdAt(), after.id(), limit);
+        }
+
+        return CursorPageResponse.of(alerts, pageSize, alert -> TaskResponse.from(alert.getTask()),
+                alert -> new KeysetCursor(alert.getDeadline(), alert.getTaskId()).encode());
+    }
+}
@@ -0,0 +1,45 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskResponse;
+
+/**
+ * 업무 조회 응답의 ETag.
+ * 단건은 id/version 에 댓글 수를 더해 만들고, 팀 목록은 팀 변경 번호에 페이지 크기와 커서를 더해 만듭니다.
+ */
+public final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    public static String forTask(Long taskId, Long version, Long commentCount) {
+        return "\"task-" + taskId + "-" + version + "-" + commentCount + "\"";
+    }
+
+    public static String forTask(TaskResponse task) {
+        return forTask(task.getId(), task.getVersion(), task.getCommentCount());
+    }
+
+    /**
+     * 같은 변경 번호라도 페이지마다 내용이 다르므로 페이지 크기와 커서를 함께 넣습니다.
+     * cursor 는 Base64URL 로 다시 인코딩된 값이어야 하며, 첫 페이지는 null 입니다.
+     */
+    public static String forTeamTasks(Long teamId, long changeStamp, String cursor, int pageSize) {
+        return "\"team-" + teamId + "-tasks-" + changeStamp + "-" + pageSize + "-"
+                + (cursor == null ? "first" : cursor) + "\"";
+    }
+
+    /**
+     * If-Match 값이 현재 업무의 id/version 과 일치하는지 확인합니다.
+     * 댓글 수는 업무 수정과 무관하므로 비교하지 않으며, 약한 ETag 는 일치로 보지 않습니다.
+     */
+    public static boolean matchesVersion(String ifMatch, Long taskId, Long version) {
+        String prefix = "\"task-" + taskId + "-" + version + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith(prefix) && tag.endsWith("\""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,157 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskEventType;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 팀별 업무 변경 이벤트를 SSE 로 전달합니다.
+ * 연결은 비동기 요청으로 유지되어 요청 스레드를 점유하지 않으며, 전송은 소수의 디스패치 스레드가 담당합니다.
+ * 이벤트 id 와 재개용 버퍼는 인스턴스 메모리에만 있으므로 재시작 이전 id 로 재접속하면 RESYNC 를 받습니다.
+ * 팀의 마지막 구독자가 떠나면 채널도 지우므로, 그 뒤에 재접속한 클라이언트도 RESYNC 를 받습니다.
+ */
+@Slf4j
+@Service
+public class TaskEventService {
+
+    private final UserIdentityCache userIdentityCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int replaySize;
+    private final int queueSize;
+    private final ExecutorService dispatcher;
+    private final Map<Long, TeamEventChannel> channels = new ConcurrentHashMap<>();
+
+    public TaskEventService(UserIdentityCache userIdentityCache,
+                            TeamMembershipCache teamMembershipCache,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${cowork.task.events.timeout:30m}") Duration timeout,
+                            @Value("${cowork.task.events.replay-size:256}") int replaySize,
+                            @Value("${cowork.task.events.queue-size:512}") int queueSize,
+                            @Value("${cowork.task.events.dispatch-threads:4}") int dispatchThreads) {
+        this.userIdentityCache = userIdentityCache;
+        this.teamMembershipCache = teamMembershipCache;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.replaySize = replaySize;
+        // 재개 시 버퍼 전체를 한 번에 넣어도 넘치지 않아야 함
+        this.queueSize = Math.max(queueSize, replaySize + 1);
+        // 가상 스레드 모드에서도 플랫폼 스레드를 사용: SseEmitter#send 는 synchronized 안에서 소켓에 쓰므로 가상 스레드를 고정시킴
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("task-events-"));
+        Gauge.builder("cowork.task.events.subscribers", channels,
+                        map -> map.values().stream().mapToInt(channel -> channel.subscribers().size()).sum())
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String loginId, Long teamId, Long lastEventId) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, queueSize, dispatcher);
+
+        emitter.onCompletion(() -> leave(teamId, subscriber));
+        emitter.onTimeout(() -> {
+            leave(teamId, subscriber);
+            subscriber.close();
+        });
+        emitter.onError(e -> leave(teamId, subscriber));
+
+        String resyncJson = toJson(TaskChangeEvent.resync(teamId));
+        // 마지막 구독자가 떠나며 채널을 지우는 것과 겹치지 않도록 맵 안에서 등록
+        channels.compute(teamId, (id, channel) -> {
+            TeamEventChannel joined = channel != null ? channel : newChannel();
+            joined.join(subscriber, lastEventId, TaskEventType.RESYNC.name(), resyncJson);
+            return joined;
+        });
+        // 응답 헤더를 즉시 내려보내 프록시가 연결을 보류하지 않도록 함
+        subscriber.offer(comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangeEvent event) {
+        // 구독자가 없는 팀은 채널을 만들지 않음
+        TeamEventChannel channel = channels.get(event.getTeamId());
+        if (channel != null) {
+            channel.publish(event.getType().name(), toJson(event));
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시나 로드밸런서에서 끊기지 않도록 주석 이벤트를 보냅니다.
+     */
+    @Scheduled(fixedRateString = "${cowork.task.events.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        Set<DataWithMediaType> heartbeat = comment("heartbeat");
+        channels.forEach((teamId, channel) -> channel.subscribers().forEach(subscriber -> {
+            if (subscriber.isClosed()) {
+                leave(teamId, subscriber);
+            } else {
+                subscriber.offer(heartbeat);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers().forEach(TaskEventSubscriber::close));
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 구독자를 빼고, 팀의 마지막 구독자였다면 채널(재개용 버퍼 포함)도 지웁니다.
+     */
+    private void leave(Long teamId, TaskEventSubscriber subscriber) {
+        channels.computeIfPresent(teamId, (id, channel) -> {
+            channel.leave(subscriber);
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    // 지워졌다 다시 만들어진 채널의 id 가 이전 채널의 id 와 겹치지 않도록 생성 시각에서 시작
+    private TeamEventChannel newChannel() {
+        return new TeamEventChannel(System.currentTimeMillis() * 1000, replaySize);
+    }
+
+    private String toJson(TaskChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize task event", e);
+        }
+    }
+
+    private static Set<DataWithMediaType> comment(String text) {
+        return SseEmitter.event().comment(text).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.cowork.domain.task.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나. 발행 스레드는 큐에 넣기만 하고, 실제 전송은 공용 디스패치 스레드가 연결별로 한 번에 하나씩 수행합니다.
+ * 큐가 가득 찰 만큼 느린 클라이언트는 연결을 끊으며, 클라이언트는 Last-Event-ID 로 재접속해 이어 받습니다.
+ */
+@Slf4j
+class TaskEventSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final Executor dispatcher;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TaskEventSubscriber(SseEmitter emitter, int queueSize, Executor dispatcher) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.dispatcher = dispatcher;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 이벤트를 전송 대기열에 넣습니다. 대기열이 가득 차면 연결을 종료합니다.
+     */
+    void enqueue(Set<DataWithMediaType> event) {
+        if (closed.get()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            log.debug("Closing slow SSE subscriber: {} events pending", queue.size());
+            close();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 하트비트처럼 유실돼도 되는 이벤트는 대기열이 가득 차면 버립니다.
+     */
+    void offer(Set<DataWithMediaType> event) {
+        if (!closed.get() && queue.offer(event)) {
+            scheduleDrain();
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<DataWithMediaType> event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결. 정리는 컨테이너의 오류 콜백에서 수행됩니다.
+            closed.set(true);
+            queue.clear();
+        } finally {
+            draining.set(false);
+        }
+        // drain 종료와 enqueue 사이에 들어온 이벤트 처리
+        if (!closed.get() && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
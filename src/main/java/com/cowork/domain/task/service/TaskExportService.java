@@ -0,0 +1,133 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskExportFormat;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 팀 업무 전체를 NDJSON/CSV 로 스트리밍합니다.
+ * 엔티티를 한 행씩 읽어 바로 쓰고 분리(detach)하므로 행 수와 무관하게 힙 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String[] CSV_HEADER = {
+            "id", "parentId", "title", "content", "status", "priority", "deadline",
+            "workerLoginId", "workerNickname", "version", "createdAt", "updatedAt"
+    };
+
+    private final TaskRepository taskRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public StreamingResponseBody export(String loginId, Long teamId, TaskExportFormat format) {
+        // 권한 검증은 응답 커밋 전에 요청 스레드에서 수행
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<Task> tasks = taskRepository.streamTeamTasks(teamId)) {
+                if (format == TaskExportFormat.CSV) {
+                    writeCsvRow(writer, CSV_HEADER);
+                }
+                // 첫 바이트를 바로 내보냅니다.
+                writer.flush();
+
+                int count = 0;
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    Task task = iterator.next();
+                    TaskResponse response = TaskResponse.from(task);
+                    entityManager.detach(task);
+
+                    if (format == TaskExportFormat.CSV) {
+                        writeCsvRow(writer, toCsvRow(response));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(response));
+                        writer.write('\n');
+                    }
+
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                        // 담당자 등 함께 로딩된 연관 엔티티도 주기적으로 비웁니다.
+                        entityManager.clear();
+                    }
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String[] toCsvRow(TaskResponse task) {
+        return new String[]{
+                String.valueOf(task.getId()),
+                task.getParentId() != null ? String.valueOf(task.getParentId()) : null,
+                task.getTitle(),
+                task.getContent(),
+                task.getStatus().name(),
+                task.getPriority().name(),
+                task.getDeadline() != null ? task.getDeadline().toLocalDate().toString() : null,
+                task.getWorkerLoginId(),
+                task.getWorkerNickname(),
+                String.valueOf(task.getVersion()),
+                task.getCreatedAt() != null ? task.getCreatedAt().toString() : null,
+                task.getUpdatedAt() != null ? task.getUpdatedAt().toString() : null
+        };
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,34 @@
+package com.cowork.domain.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 path 가 비어 있는 기존 업무를 배치 단위로 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPathBackfillRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskTreeService taskTreeService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        int processed;
+        do {
+            processed = taskTreeService.backfillPaths(BATCH_SIZE);
+            total += processed;
+        } while (processed == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled materialized path for {} tasks", total);
+        }
+    }
+}
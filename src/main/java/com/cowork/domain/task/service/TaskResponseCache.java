@@ -0,0 +1,113 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.global.response.ApiResponse;
+import com.cowork.global.response.CursorPageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.function.Supplier;
+
+/**
+ * 업무 조회 응답(ApiResponse 봉투 포함)을 직렬화된 JSON 바이트로 보관합니다.
+ * 항목은 ETag 와 함께 저장되며 현재 ETag 와 같을 때만 사용하므로, 버전이 바뀐 응답은 제공되지 않습니다.
+ * 전체 크기는 바이트 단위 예산으로 제한되고 Caffeine(W-TinyLFU) 정책으로 제거됩니다.
+ */
+@Component
+public class TaskResponseCache {
+
+    // 키/ETag 등 바이트 배열 외 항목당 대략적인 고정 비용
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Object, CachedJson> cache;
+
+    public TaskResponseCache(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${cowork.cache.task-response.maximum-size:64MB}") DataSize maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .<Object, CachedJson>weigher((key, value) -> value.body().length + ENTRY_OVERHEAD)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "taskResponse");
+    }
+
+    /**
+     * eTag 와 일치하는 업무 응답 바이트를 반환하고, 없으면 loader 결과를 직렬화해 저장합니다.
+     * 저장 시에는 실제로 로딩한 응답의 ETag 를 사용합니다.
+     */
+    public CachedJson getTask(Long taskId, String eTag, Supplier<TaskResponse> loader) {
+        TaskKey key = new TaskKey(taskId);
+        CachedJson cached = cache.getIfPresent(key);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            return cached;
+        }
+
+        TaskResponse response = loader.get();
+        CachedJson loaded = new CachedJson(TaskETags.forTask(response), serialize(ApiResponse.success(response)));
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 팀 변경 번호로 만든 eTag 와 일치하는 목록 페이지 응답 바이트를 반환합니다.
+     * 변경 번호가 없는 팀(eTag 가 null)은 저장하지 않고 직렬화만 합니다.
+     */
+    public CachedJson getTeamTasks(Long teamId, String cursor, Integer size, String eTag,
+                                   Supplier<CursorPageResponse<TaskResponse>> loader) {
+        if (eTag == null) {
+            return new CachedJson(null, serialize(ApiResponse.success(loader.get())));
+        }
+
+        TeamPageKey key = new TeamPageKey(teamId, cursor == null || cursor.isBlank() ? null : cursor, size);
+        CachedJson cached = cache.getIfPresent(key);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            return cached;
+        }
+
+        CachedJson loaded = new CachedJson(eTag, serialize(ApiResponse.success(loader.get())));
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 변경된 업무와 그 팀의 목록 페이지를 제거합니다.
+     * ETag 비교만으로도 오래된 응답은 제공되지 않지만, 더 이상 쓰이지 않을 항목이 예산을 차지하지 않도록 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangeEvent event) {
+        if (event.getTaskId() != null) {
+            cache.invalidate(new TaskKey(event.getTaskId()));
+        }
+        cache.asMap().keySet().removeIf(key -> key instanceof TeamPageKey page && page.teamId().equals(event.getTeamId()));
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize task response", e);
+        }
+    }
+
+    public record CachedJson(String eTag, byte[] body) {
+    }
+
+    private record TaskKey(Long taskId) {
+    }
+
+    private record TeamPageKey(Long teamId, String cursor, Integer size) {
+    }
+}
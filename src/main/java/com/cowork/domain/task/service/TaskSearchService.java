@@ -0,0 +1,88 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskSearchResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.task.repository.TaskSearchHit;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.global.pagination.PageSizeResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    // ngram_token_size 기본값(2) 보다 짧은 검색어는 인덱스로 찾을 수 없습니다.
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final TaskRepository taskRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final PageSizeResolver pageSizeResolver;
+
+    @Value("${cowork.task.search.max-offset:1000}")
+    private int maxOffset;
+
+    public TaskSearchResponse search(String loginId, Long teamId, String keyword, Integer page, Integer size) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.length() < MIN_KEYWORD_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Keyword must be at least 2 characters");
+        }
+
+        int pageSize = pageSizeResolver.resolve(size);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        // 관련도 정렬은 keyset 으로 이어갈 수 없으므로 깊은 offset 은 제한합니다.
+        // 곱하기 전에 비교해야 큰 page 값이 int 범위를 넘어 작은 offset 으로 바뀌지 않습니다.
+        if (pageNumber > maxOffset / pageSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Page is too deep for keyword search");
+        }
+        int offset = pageNumber * pageSize;
+
+        List<TaskSearchHit> hits = taskRepository.searchByKeyword(teamId, trimmed, pageSize + 1, offset);
+        boolean hasNext = hits.size() > pageSize;
+        List<Long> ids = hits.stream()
+                .limit(pageSize)
+                .map(TaskSearchHit::getId)
+                .toList();
+
+        // 관련도 순서를 유지한 채 연관 엔티티와 함께 한 번에 로딩
+        Map<Long, Task> tasks = ids.isEmpty()
+                ? Map.of()
+                : taskRepository.findAllWithTeamAndWorkerByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskResponse> content = ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(TaskResponse::from)
+                .toList();
+
+        return TaskSearchResponse.builder()
+                .keyword(trimmed)
+                .page(pageNumber)
+                .size(content.size())
+                .hasNext(hasNext)
+                .content(content)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cowork.domain.task.service;
 
+import com.cowork.domain.task.dto.TaskChangeEvent;
 import com.cowork.domain.task.dto.TaskCreateRequest;
 import com.cowork.domain.task.dto.TaskResponse;
 import com.cowork.domain.task.dto.TaskUpdateRequest;
@@ -7,14 +8,20 @@ import com.cowork.domain.task.entity.Task;
 import com.cowork.domain.task.entity.TaskPriority;
 import com.cowork.domain.task.entity.TaskStatus;
 import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.task.repository.TaskTagView;
 import com.cowork.domain.team.entity.Team;
-import com.cowork.domain.team.repository.TeamMemberRepository;
 import com.cowork.domain.team.repository.TeamRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
 import com.cowork.domain.user.entity.User;
-import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.domain.user.service.UserIdentityCache;
 import com.cowork.global.exception.CustomException;
 import com.cowork.global.exception.ErrorCode;
+import com.cowork.global.pagination.KeysetCursor;
+import com.cowork.global.pagination.PageSizeResolver;
+import com.cowork.global.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,8 +39,13 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TeamRepository teamRepository;
-    private final TeamMemberRepository teamMemberRepository;
-    private final UserRepository userRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final PageSizeResolver pageSizeResolver;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final TaskConflictResolver taskConflictResolver;
+    private final TaskActivityLog taskActivityLog;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(String loginId, Long teamId, TaskCreateRequest request) {
@@ -49,8 +62,12 @@ public class TaskService {
 
         Task parent = null;
         if (request.getParentId() != null) {
-            parent = taskRepository.findByIdAndDeletedAtIsNull(request.getParentId())
+            // 상위 업무를 잠가 진행 중인 이동이 끝난 뒤의 경로로 하위 업무 경로를 정합니다.
+            parent = taskRepository.findByIdForUpdate(request.getParentId())
                     .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+            if (!parent.getTeam().getId().equals(teamId)) {
+                throw new CustomException(ErrorCode.INVALID_PARENT_TASK);
+            }
         }
 
         LocalDateTime deadline = request.getDeadline() != null 
@@ -61,6 +78,8 @@ public class TaskService {
                 .team(team)
                 .worker(worker)
                 .parent(parent)
+                .path(Task.childPathOf(parent))
+                .depth(Task.childDepthOf(parent))
                 .title(request.getTitle())
                 .content(request.getContent())
                 .status(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO)
@@ -69,54 +88,121 @@ public class TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
-        return TaskResponse.from(savedTask);
+        teamTaskStatsService.apply(teamId, TaskStatsSnapshot.NONE, TaskStatsSnapshot.of(savedTask));
+        taskActivityLog.recordCreated(savedTask, requester.getId());
+
+        TaskResponse response = TaskResponse.from(savedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.created(response));
+        return response;
     }
 
-    public List<TaskResponse> getTeamTasks(String loginId, Long teamId) {
+    public CursorPageResponse<TaskResponse> getTeamTasks(String loginId, Long teamId, String cursor, Integer size) {
         User requester = getUserByLoginId(loginId);
         Team team = getTeamById(teamId);
 
         validateTeamMembership(requester, team);
 
-        List<Task> tasks = taskRepository.findAllByTeamIdAndDeletedAtIsNull(teamId);
-        return tasks.stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        int pageSize = pageSizeResolver.resolve(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findTeamTasksFirstPage(teamId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            tasks = taskRepository.findTeamTasksAfter(teamId, after.createdAt(), after.id(), limit);
+        }
+
+        return CursorPageResponse.of(tasks, pageSize, TaskResponse::from,
+                task -> new KeysetCursor(task.getCreatedAt(), task.getId()).encode());
     }
 
     public List<TaskResponse> getMyTasks(String loginId) {
         User requester = getUserByLoginId(loginId);
 
-        List<Task> tasks = taskRepository.findAllByWorkerIdAndDeletedAtIsNull(requester.getId());
+        List<Task> tasks = taskRepository.findMyTasks(requester.getId());
         return tasks.stream()
                 .map(TaskResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 팀 업무 목록의 ETag. 엔티티를 로딩하지 않고 팀 변경 번호만 조회합니다.
+     * 변경 번호가 아직 없는 팀은 비어 있으며, 이 경우 조건부 조회 없이 목록을 조회합니다.
+     * 커서는 디코딩 후 다시 인코딩해 검증과 정규화를 함께 하고, 페이지 크기는 실제 적용될 값을 씁니다.
+     */
+    public Optional<String> getTeamTasksETag(String loginId, Long teamId, String cursor, Integer size) {
+        Optional<Long> changeStamp = teamTaskStatsService.getChangeStamp(teamId);
+        if (changeStamp.isEmpty()) {
+            return Optional.empty();
+        }
+
+        User requester = getUserByLoginId(loginId);
+        if (!teamMembershipCache.isMember(requester.getId(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+        String normalizedCursor = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor).encode();
+        return Optional.of(TaskETags.forTeamTasks(teamId, changeStamp.get(),
+                normalizedCursor, pageSizeResolver.resolve(size)));
+    }
+
+    /**
+     * 업무 단건의 ETag. 엔티티 대신 id/version/댓글 수만 조회합니다.
+     */
+    public String getTaskETag(String loginId, Long taskId) {
+        User requester = getUserByLoginId(loginId);
+
+        TaskTagView tag = taskRepository.findTagById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+
+        if (!teamMembershipCache.isMember(requester.getId(), tag.getTeamId())) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+        return TaskETags.forTask(taskId, tag.getVersion(), tag.getCommentCount());
+    }
+
+    /**
+     * 요청의 version 이 현재 버전과 다르면 {@link TaskConflictResolver} 가 병합 가능 여부를 판단합니다.
+     * 병합 판단과 반영 사이에 다른 수정이 끼어들지 않도록 업무 행을 잠그고 진행합니다.
+     */
     @Transactional
-    public TaskResponse updateTask(String loginId, Long taskId, TaskUpdateRequest request) {
+    public TaskResponse updateTask(String loginId, Long taskId, TaskUpdateRequest request, String ifMatch) {
         User requester = getUserByLoginId(loginId);
 
-        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
 
         validateTeamMembership(requester, task.getTeam());
 
-        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
-            throw new CustomException(ErrorCode.TASK_VERSION_CONFLICT);
+        // If-Match 는 HTTP 조건부 요청이므로 병합하지 않고 정확히 일치할 때만 수정합니다.
+        if (ifMatch != null && !TaskETags.matchesVersion(ifMatch, task.getId(), task.getVersion())) {
+            throw new CustomException(ErrorCode.TASK_PRECONDITION_FAILED);
         }
 
+        User newWorker = null;
         if (request.getWorkerLoginId() != null) {
-            User newWorker = getUserByLoginId(request.getWorkerLoginId());
+            newWorker = getUserByLoginId(request.getWorkerLoginId());
             validateTeamMembership(newWorker, task.getTeam());
+        }
+
+        LocalDateTime deadline = request.getDeadline() != null
+                ? request.getDeadline().atTime(LocalTime.MAX)
+                : null;
+
+        if (taskConflictResolver.isConflict(task, request.getVersion(), TaskConflictResolver.changes(
+                request.getTitle(), request.getContent(), request.getStatus(), request.getPriority(),
+                deadline, newWorker != null ? newWorker.getId() : null))) {
+            throw new CustomException(ErrorCode.TASK_VERSION_CONFLICT);
+        }
+
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+
+        if (newWorker != null) {
             task.assignWorker(newWorker);
         }
 
         try {
-            LocalDateTime deadline = request.getDeadline() != null
-                    ? request.getDeadline().atTime(LocalTime.MAX)
-                    : null;
-
             task.updateTask(
                     request.getTitle(),
                     request.getContent(),
@@ -125,10 +211,16 @@ public class TaskService {
                     deadline
             );
 
-            Task updatedTask = taskRepository.save(task);
-            return TaskResponse.from(updatedTask);
+            // 응답의 version 과 ETag 가 갱신된 값을 갖도록 즉시 flush
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            teamTaskStatsService.apply(task.getTeam().getId(), before, TaskStatsSnapshot.of(updatedTask));
+            taskActivityLog.recordChanges(updatedTask, requester.getId());
+
+            TaskResponse response = TaskResponse.from(updatedTask);
+            eventPublisher.publishEvent(TaskChangeEvent.updated(response));
+            return response;
         } catch (ObjectOptimisticLockingFailureException e) {
-            throw new CustomException(ErrorCode.TASK_VERSION_CONFLICT);
+            throw new CustomException(ErrorCode.TASK_VERSION_CONFLICT, ErrorCode.TASK_VERSION_CONFLICT.getMessage(), e);
         }
     }
 
@@ -141,8 +233,13 @@ public class TaskService {
 
         validateTeamMembership(requester, task.getTeam());
 
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
         task.softDelete();
-        taskRepository.save(task);
+        // 활동 기록에 삭제 후 version 이 남도록 즉시 flush
+        taskRepository.saveAndFlush(task);
+        teamTaskStatsService.apply(task.getTeam().getId(), before, TaskStatsSnapshot.NONE);
+        taskActivityLog.recordChanges(task, requester.getId());
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(task.getTeam().getId(), task.getId()));
     }
 
     public TaskResponse getTask(String loginId, Long taskId) {
@@ -157,8 +254,7 @@ public class TaskService {
     }
 
     private User getUserByLoginId(String loginId) {
-        return userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return userIdentityCache.getReference(loginId);
     }
 
     private Team getTeamById(Long teamId) {
@@ -167,7 +263,7 @@ public class TaskService {
     }
 
     private void validateTeamMembership(User user, Team team) {
-        if (!teamMemberRepository.existsByUserAndTeam(user, team)) {
+        if (!teamMembershipCache.isMember(user.getId(), team.getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
     }
@@ -0,0 +1,49 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 변경 전/후 스냅샷들로부터 누적한 카운터 증감량.
+ * 일괄 처리 시 여러 업무의 변경을 한 번의 UPDATE 로 반영하기 위해 사용합니다.
+ */
+@Getter
+class TaskStatsDelta {
+
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long done;
+    private long low;
+    private long medium;
+    private long high;
+    private long unassigned;
+    private final Map<LocalDate, Long> openByDeadline = new HashMap<>();
+
+    void add(TaskStatsSnapshot before, TaskStatsSnapshot after) {
+        accumulate(before, -1);
+        accumulate(after, 1);
+    }
+
+    private void accumulate(TaskStatsSnapshot snapshot, int sign) {
+        if (snapshot.open()) {
+            openByDeadline.merge(snapshot.deadlineDate(), (long) sign, Long::sum);
+        }
+        if (!snapshot.live()) {
+            return;
+        }
+        total += sign;
+        if (snapshot.status() == TaskStatus.TODO) todo += sign;
+        if (snapshot.status() == TaskStatus.IN_PROGRESS) inProgress += sign;
+        if (snapshot.status() == TaskStatus.DONE) done += sign;
+        if (snapshot.priority() == TaskPriority.LOW) low += sign;
+        if (snapshot.priority() == TaskPriority.MEDIUM) medium += sign;
+        if (snapshot.priority() == TaskPriority.HIGH) high += sign;
+        if (!snapshot.assigned()) unassigned += sign;
+    }
+}
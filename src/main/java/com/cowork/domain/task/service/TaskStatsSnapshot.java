@@ -0,0 +1,36 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 카운터에 영향을 주는 업무 속성의 스냅샷. 변경 전/후 스냅샷의 차이로 카운터를 증감합니다.
+ */
+public record TaskStatsSnapshot(boolean live, TaskStatus status, TaskPriority priority,
+                                boolean assigned, LocalDate deadlineDate) {
+
+    public static final TaskStatsSnapshot NONE = new TaskStatsSnapshot(false, null, null, false, null);
+
+    public static TaskStatsSnapshot of(Task task) {
+        if (task.isDeleted()) {
+            return NONE;
+        }
+        return new TaskStatsSnapshot(
+                true,
+                task.getStatus(),
+                task.getPriority(),
+                task.getWorker() != null,
+                task.getDeadline() != null ? task.getDeadline().toLocalDate() : null
+        );
+    }
+
+    /**
+     * 지연 여부 집계 대상(마감일이 있는 미완료 업무)인지 여부.
+     */
+    public boolean open() {
+        return live && status != TaskStatus.DONE && deadlineDate != null;
+    }
+}
@@ -0,0 +1,165 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskMoveRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskTreeResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskTreeService {
+
+    private final TaskRepository taskRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+    private final TeamTaskStatsService teamTaskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cowork.task.tree.max-depth:10}")
+    private int maxDepth;
+
+    public TaskTreeResponse getTree(String loginId, Long taskId, Integer depth) {
+        Task root = getTask(taskId);
+        validateTeamMembership(loginId, root);
+
+        int limit = depth == null || depth < 0 ? maxDepth : Math.min(depth, maxDepth);
+        List<Task> descendants = taskRepository.findSubtree(root.subtreePath(), root.getDepth() + limit);
+
+        // depth 오름차순으로 조회되므로 부모 노드가 항상 먼저 등록됩니다.
+        // 삭제된 업무의 하위 업무는 부모 노드가 없어 트리에서 제외됩니다.
+        TaskTreeResponse rootNode = TaskTreeResponse.from(root, root.getDepth());
+        Map<Long, TaskTreeResponse> nodes = new HashMap<>();
+        nodes.put(root.getId(), rootNode);
+
+        for (Task task : descendants) {
+            TaskTreeResponse parentNode = nodes.get(task.getParent().getId());
+            if (parentNode == null) {
+                continue;
+            }
+            TaskTreeResponse node = TaskTreeResponse.from(task, root.getDepth());
+            parentNode.getChildren().add(node);
+            nodes.put(task.getId(), node);
+        }
+
+        return rootNode;
+    }
+
+    @Transactional
+    public TaskResponse moveTask(String loginId, Long taskId, TaskMoveRequest request) {
+        // 이동할 업무와 새 상위 업무를 잠근 뒤의 최신 경로로 순환 여부를 판단합니다.
+        // 서로의 아래로 옮기는 동시 요청은 잠금을 기다려 먼저 끝난 이동의 경로를 보게 됩니다.
+        Map<Long, Task> locked = lockForMove(taskId, request.getParentId());
+        Task task = getLocked(locked, taskId);
+        validateTeamMembership(loginId, task);
+
+        Task newParent = null;
+        if (request.getParentId() != null) {
+            newParent = getLocked(locked, request.getParentId());
+
+            boolean sameTeam = newParent.getTeam().getId().equals(task.getTeam().getId());
+            // 자기 자신 또는 자신의 하위 업무 아래로는 이동할 수 없습니다.
+            boolean cyclic = newParent.getId().equals(task.getId())
+                    || newParent.getPath().startsWith(task.subtreePath());
+            if (!sameTeam || cyclic) {
+                throw new CustomException(ErrorCode.INVALID_PARENT_TASK);
+            }
+        }
+
+        String oldSubtreePath = task.subtreePath();
+        String newPath = Task.childPathOf(newParent);
+        int newDepth = Task.childDepthOf(newParent);
+        String newSubtreePath = newPath + task.getId() + "/";
+        int depthDelta = newDepth - task.getDepth();
+
+        task.changeParent(newParent);
+        taskRepository.updatePath(task.getId(), newPath, newDepth);
+        int moved = taskRepository.movePaths(oldSubtreePath, newSubtreePath, depthDelta);
+        log.debug("Moved task {} with {} descendants", task.getId(), moved);
+        teamTaskStatsService.touch(task.getTeam().getId());
+
+        TaskResponse response = TaskResponse.from(task);
+        eventPublisher.publishEvent(TaskChangeEvent.updated(response));
+        return response;
+    }
+
+    /**
+     * path 컬럼 도입 이전에 생성된 업무의 경로를 채웁니다.
+     * 부모는 항상 자식보다 먼저 생성되므로 id 순으로 처리하면 부모 경로가 먼저 채워집니다.
+     */
+    @Transactional
+    public int backfillPaths(int batchSize) {
+        List<Task> tasks = taskRepository.findWithoutPath(Limit.of(batchSize));
+        // 벌크 업데이트는 영속성 컨텍스트에 반영되지 않으므로 이번 배치에서 채운 값은 따로 보관
+        Map<Long, PathInfo> filled = new HashMap<>();
+
+        for (Task task : tasks) {
+            Task parent = task.getParent();
+            PathInfo info;
+            if (parent == null) {
+                info = new PathInfo("/", 0);
+            } else {
+                PathInfo parentInfo = filled.getOrDefault(parent.getId(),
+                        new PathInfo(parent.getPath(), parent.getDepth()));
+                info = new PathInfo(parentInfo.path() + parent.getId() + "/", parentInfo.depth() + 1);
+            }
+            taskRepository.updatePath(task.getId(), info.path(), info.depth());
+            filled.put(task.getId(), info);
+        }
+        return tasks.size();
+    }
+
+    // 일괄 수정과 같은 id 순서로 잠가 겹치는 이동끼리 교착 없이 차례로 진행합니다.
+    private Map<Long, Task> lockForMove(Long taskId, Long parentId) {
+        List<Long> ids = parentId == null || parentId.equals(taskId)
+                ? List.of(taskId)
+                : List.of(taskId, parentId);
+        return taskRepository.findAllForUpdateByIdIn(ids).stream()
+                .filter(task -> !task.isDeleted())
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Task getLocked(Map<Long, Task> locked, Long taskId) {
+        Task task = locked.get(taskId);
+        if (task == null) {
+            throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+        }
+        return task;
+    }
+
+    private Task getTask(Long taskId) {
+        return taskRepository.findByIdAndDeletedAtIsNull(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+    }
+
+    private void validateTeamMembership(String loginId, Task task) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), task.getTeam().getId())) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+    }
+
+    private record PathInfo(String path, int depth) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.cowork.domain.task.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팀 하나의 구독자 목록과 재개용 최근 이벤트 버퍼.
+ * 이벤트 id 는 팀별로 연속적으로 증가하므로 Last-Event-ID 와 버퍼를 비교해 누락 여부를 판단할 수 있습니다.
+ */
+class TeamEventChannel {
+
+    private final int replaySize;
+    private final Deque<BufferedEvent> replay;
+    private final Set<TaskEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastId;
+
+    TeamEventChannel(long initialId, int replaySize) {
+        this.lastId = initialId - 1;
+        this.replaySize = replaySize;
+        this.replay = new ArrayDeque<>(replaySize);
+    }
+
+    /**
+     * 이벤트에 id 를 부여해 버퍼에 보관하고 모든 구독자의 대기열에 넣습니다.
+     */
+    synchronized void publish(String name, String json) {
+        long id = ++lastId;
+        Set<DataWithMediaType> event = SseEmitter.event()
+                .id(Long.toString(id))
+                .name(name)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+
+        if (replaySize > 0) {
+            if (replay.size() == replaySize) {
+                replay.removeFirst();
+            }
+            replay.addLast(new BufferedEvent(id, event));
+        }
+        subscribers.forEach(subscriber -> subscriber.enqueue(event));
+    }
+
+    /**
+     * 구독자를 등록하고 lastEventId 이후의 이벤트를 먼저 대기열에 넣습니다.
+     * 버퍼만으로 이어 받을 수 없으면 현재 id 를 실은 resync 이벤트를 대신 넣습니다.
+     */
+    synchronized void join(TaskEventSubscriber subscriber, Long lastEventId, String resyncName, String resyncJson) {
+        if (lastEventId != null && lastEventId != lastId) {
+            BufferedEvent oldest = replay.peekFirst();
+            if (lastEventId > lastId || oldest == null || oldest.id() > lastEventId + 1) {
+                subscriber.enqueue(SseEmitter.event()
+                        .id(Long.toString(lastId))
+                        .name(resyncName)
+                        .data(resyncJson, MediaType.APPLICATION_JSON)
+                        .build());
+            } else {
+                for (BufferedEvent buffered : replay) {
+                    if (buffered.id() > lastEventId) {
+                        subscriber.enqueue(buffered.event());
+                    }
+                }
+            }
+        }
+        subscribers.add(subscriber);
+    }
+
+    void leave(TaskEventSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    boolean isEmpty() {
+        return subscribers.isEmpty();
+    }
+
+    Collection<TaskEventSubscriber> subscribers() {
+        return subscribers;
+    }
+
+    private record BufferedEvent(long id, Set<DataWithMediaType> event) {
+    }
+}
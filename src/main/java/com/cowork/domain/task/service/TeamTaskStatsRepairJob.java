@@ -0,0 +1,47 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 집계 카운터가 실제 데이터와 어긋난 경우를 대비해 주기적으로 팀별 카운터를 재계산합니다.
+ * 팀 단위로 개별 트랜잭션에서 처리하여 잠금 시간을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamTaskStatsRepairJob {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final TeamRepository teamRepository;
+    private final TeamTaskStatsService teamTaskStatsService;
+
+    @Scheduled(cron = "${cowork.task.stats.repair-cron:0 30 3 * * *}")
+    public void repairAll() {
+        long afterId = 0L;
+        int repaired = 0;
+
+        List<Long> teamIds;
+        do {
+            teamIds = teamRepository.findIdsAfter(afterId, Limit.of(PAGE_SIZE));
+            for (Long teamId : teamIds) {
+                try {
+                    teamTaskStatsService.recompute(teamId);
+                    repaired++;
+                } catch (RuntimeException e) {
+                    log.error("Failed to repair task stats for team {}", teamId, e);
+                }
+                afterId = teamId;
+            }
+        } while (teamIds.size() == PAGE_SIZE);
+
+        log.info("Repaired task stats for {} teams", repaired);
+    }
+}
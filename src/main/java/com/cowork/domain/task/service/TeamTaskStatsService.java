@@ -0,0 +1,168 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TeamTaskSummaryResponse;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.entity.TeamTaskStats;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.task.repository.TaskStatsView;
+import com.cowork.domain.task.repository.TeamTaskDeadlineStatsRepository;
+import com.cowork.domain.task.repository.TeamTaskStatsRepository;
+import com.cowork.domain.team.service.TeamMembershipCache;
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.service.UserIdentityCache;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 팀 대시보드 집계 카운터 관리.
+ * 업무 생성/수정/삭제와 같은 트랜잭션에서 증감하므로 조회는 카운터 행 하나와 마감일 버킷 범위만 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamTaskStatsService {
+
+    private final TeamTaskStatsRepository teamTaskStatsRepository;
+    private final TeamTaskDeadlineStatsRepository teamTaskDeadlineStatsRepository;
+    private final TaskRepository taskRepository;
+    private final TeamMembershipCache teamMembershipCache;
+    private final UserIdentityCache userIdentityCache;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long teamId, TaskStatsSnapshot before, TaskStatsSnapshot after) {
+        TaskStatsDelta delta = new TaskStatsDelta();
+        delta.add(before, after);
+        apply(teamId, delta);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyAll(Long teamId, List<TaskStatsSnapshot> before, List<TaskStatsSnapshot> after) {
+        TaskStatsDelta delta = new TaskStatsDelta();
+        for (int i = 0; i < before.size(); i++) {
+            delta.add(before.get(i), after.get(i));
+        }
+        apply(teamId, delta);
+    }
+
+    /**
+     * 집계 값은 그대로 두고 팀 변경 번호만 올립니다. (상위 업무 이동, 댓글 작성 등)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void touch(Long teamId) {
+        apply(teamId, new TaskStatsDelta());
+    }
+
+    /**
+     * 팀 업무 목록의 변경 번호. 카운터 행이 아직 없는 팀은 비어 있습니다.
+     */
+    public Optional<Long> getChangeStamp(Long teamId) {
+        return teamTaskStatsRepository.findChangeStamp(teamId);
+    }
+
+    @Transactional
+    public void initialize(Long teamId) {
+        teamTaskStatsRepository.upsert(teamId, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * tasks 테이블로부터 카운터를 다시 계산합니다.
+     * 카운터 행을 먼저 잠가 동시에 진행 중인 증감과 섞이지 않도록 합니다.
+     * 행이 아직 없으면 잠글 대상이 없어 두 재계산이 서로의 결과를 덮어쓸 수 있으므로, 0 인 행을 먼저 만든 뒤 잠급니다.
+     */
+    @Transactional
+    public void recompute(Long teamId) {
+        taskRepository.flush();
+        teamTaskStatsRepository.insertIfAbsent(teamId);
+        teamTaskStatsRepository.findForUpdate(teamId);
+
+        TaskStatsView counts = taskRepository.countStatsByTeamId(teamId);
+        teamTaskStatsRepository.upsert(teamId,
+                counts.getTotal(), counts.getTodo(), counts.getInProgress(), counts.getDone(),
+                counts.getLow(), counts.getMedium(), counts.getHigh(), counts.getUnassigned());
+
+        teamTaskDeadlineStatsRepository.deleteByTeamId(teamId);
+        teamTaskDeadlineStatsRepository.rebuild(teamId);
+    }
+
+    public TeamTaskSummaryResponse getSummary(String loginId, Long teamId) {
+        UserIdentity requester = userIdentityCache.get(loginId);
+        if (!teamMembershipCache.isMember(requester.id(), teamId)) {
+            throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        long overdue = teamTaskDeadlineStatsRepository.sumOverdue(teamId, LocalDate.now());
+        Optional<TeamTaskStats> stats = teamTaskStatsRepository.findById(teamId);
+        if (stats.isPresent()) {
+            return toSummary(teamId, stats.get(), overdue);
+        }
+
+        // 카운터가 아직 없는 팀(복구 작업 이전)은 직접 집계합니다.
+        TaskStatsView counts = taskRepository.countStatsByTeamId(teamId);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, counts.getTodo());
+        byStatus.put(TaskStatus.IN_PROGRESS, counts.getInProgress());
+        byStatus.put(TaskStatus.DONE, counts.getDone());
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, counts.getLow());
+        byPriority.put(TaskPriority.MEDIUM, counts.getMedium());
+        byPriority.put(TaskPriority.HIGH, counts.getHigh());
+
+        return TeamTaskSummaryResponse.builder()
+                .teamId(teamId)
+                .total(counts.getTotal())
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .overdue(overdue)
+                .unassigned(counts.getUnassigned())
+                .build();
+    }
+
+    private void apply(Long teamId, TaskStatsDelta delta) {
+        // 카운터 변화가 없어도 변경 번호를 올리기 위해 항상 갱신합니다.
+        int updated = teamTaskStatsRepository.applyDelta(teamId,
+                delta.getTotal(), delta.getTodo(), delta.getInProgress(), delta.getDone(),
+                delta.getLow(), delta.getMedium(), delta.getHigh(), delta.getUnassigned());
+        if (updated == 0) {
+            // 카운터 행이 없으면 증감 대신 전체 재계산 (현재 변경 사항 포함)
+            recompute(teamId);
+            return;
+        }
+
+        delta.getOpenByDeadline().forEach((deadlineDate, count) -> {
+            if (count != 0) {
+                teamTaskDeadlineStatsRepository.applyDelta(teamId, deadlineDate, count);
+            }
+        });
+    }
+
+    private TeamTaskSummaryResponse toSummary(Long teamId, TeamTaskStats stats, long overdue) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, stats.countOf(status));
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, stats.countOf(priority));
+        }
+
+        return TeamTaskSummaryResponse.builder()
+                .teamId(teamId)
+                .total(stats.getTotalCount())
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .overdue(overdue)
+                .unassigned(stats.getUnassignedCount())
+                .build();
+    }
+}
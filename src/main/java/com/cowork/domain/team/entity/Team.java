@@ -3,15 +3,21 @@ package com.cowork.domain.team.entity;
 import com.cowork.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "teams")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Team.CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Team extends BaseTimeEntity {
 
+    // 2차 캐시 영역 (HibernateCacheConfig 에서 크기와 TTL 을 설정)
+    public static final String CACHE_REGION = "team";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
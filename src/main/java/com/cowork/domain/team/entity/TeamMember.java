@@ -12,6 +12,9 @@ import lombok.*;
                         name = "uk_team_member_user_team",
                         columnNames = {"user_id", "team_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_team_member_team", columnList = "team_id, user_id")
         }
 )
 @Getter
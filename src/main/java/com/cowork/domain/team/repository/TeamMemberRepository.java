@@ -4,7 +4,10 @@ import com.cowork.domain.team.entity.Team;
 import com.cowork.domain.team.entity.TeamMember;
 import com.cowork.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
@@ -14,4 +17,9 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     List<TeamMember> findByTeam(Team team);
 
     boolean existsByUserAndTeam(User user, Team team);
+
+    boolean existsByUserIdAndTeamId(Long userId, Long teamId);
+
+    @Query("select tm.user.id from TeamMember tm where tm.team.id = :teamId and tm.user.id in :userIds")
+    List<Long> findMemberUserIds(@Param("teamId") Long teamId, @Param("userIds") Collection<Long> userIds);
 }
@@ -1,7 +1,15 @@
 package com.cowork.domain.team.repository;
 
 import com.cowork.domain.team.entity.Team;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    @Query("select t.id from Team t where t.id > :afterId order by t.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
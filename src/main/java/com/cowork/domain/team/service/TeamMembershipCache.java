@@ -0,0 +1,85 @@
+package com.cowork.domain.team.service;
+
+import com.cowork.domain.team.repository.TeamMemberRepository;
+import com.cowork.global.datasource.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, teamId) 멤버십 여부를 캐싱하여 요청마다 발생하던 team_members 조회를 줄입니다.
+ * 멤버십이 변경되면 트랜잭션 커밋 이후 {@link #evict(Long, Long)} 로 무효화해야 합니다.
+ * 조회는 캐시 잠금 밖에서 하므로, 조회 도중 무효화가 있었으면 방금 저장한 값을 다시 지워 오래된 값이 남지 않게 합니다.
+ */
+@Component
+public class TeamMembershipCache {
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<MembershipKey, Boolean> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TeamMembershipCache(TeamMemberRepository teamMemberRepository,
+                               PrimaryReads primaryReads,
+                               MeterRegistry meterRegistry,
+                               @Value("${cowork.cache.membership.maximum-size:10000}") long maximumSize,
+                               @Value("${cowork.cache.membership.ttl:5m}") Duration ttl) {
+        this.teamMemberRepository = teamMemberRepository;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "teamMembership");
+    }
+
+    public boolean isMember(Long userId, Long teamId) {
+        MembershipKey key = new MembershipKey(userId, teamId);
+        Boolean cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회는 캐시 잠금 밖에서, 주 데이터베이스에서 수행합니다. (UserIdentityCache#get 참고)
+        long before = generation.get();
+        boolean member = primaryReads.call(() -> teamMemberRepository.existsByUserIdAndTeamId(userId, teamId));
+        cache.put(key, member);
+        if (generation.get() != before) {
+            cache.invalidate(key);
+        }
+        return member;
+    }
+
+    public void evict(Long userId, Long teamId) {
+        MembershipKey key = new MembershipKey(userId, teamId);
+        invalidate(key);
+
+        // 커밋 전 다른 요청이 이전 상태를 다시 캐싱할 수 있으므로 커밋 이후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(key);
+                }
+            });
+        }
+    }
+
+    // 세대를 먼저 올립니다. (UserIdentityCache#invalidate 참고)
+    private void invalidate(MembershipKey key) {
+        generation.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private record MembershipKey(Long userId, Long teamId) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.cowork.domain.team.service;
 
+import com.cowork.domain.task.service.TeamTaskStatsService;
 import com.cowork.domain.team.dto.InviteRequest;
 import com.cowork.domain.team.dto.TeamCreateRequest;
 import com.cowork.domain.team.dto.TeamDetailResponse;
@@ -11,7 +12,7 @@ import com.cowork.domain.team.entity.TeamRole;
 import com.cowork.domain.team.repository.TeamMemberRepository;
 import com.cowork.domain.team.repository.TeamRepository;
 import com.cowork.domain.user.entity.User;
-import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.domain.user.service.UserIdentityCache;
 import com.cowork.global.exception.CustomException;
 import com.cowork.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -28,12 +29,13 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final TeamTaskStatsService teamTaskStatsService;
 
     @Transactional
     public TeamResponse createTeam(String loginId, TeamCreateRequest request) {
-        User creator = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User creator = userIdentityCache.getReference(loginId);
 
         Team team = Team.builder()
                 .name(request.getName())
@@ -49,13 +51,14 @@ public class TeamService {
                 .build();
 
         teamMemberRepository.save(leaderMember);
+        teamMembershipCache.evict(creator.getId(), savedTeam.getId());
+        teamTaskStatsService.initialize(savedTeam.getId());
 
         return TeamResponse.from(savedTeam, TeamRole.LEADER);
     }
 
     public List<TeamResponse> getMyTeams(String loginId) {
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = userIdentityCache.getReference(loginId);
 
         List<TeamMember> memberships = teamMemberRepository.findByUser(user);
 
@@ -66,18 +69,16 @@ public class TeamService {
 
     @Transactional
     public TeamMemberResponse inviteMember(String loginId, Long teamId, InviteRequest request) {
-        User inviter = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User inviter = userIdentityCache.getReference(loginId);
 
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
 
-        if (!teamMemberRepository.existsByUserAndTeam(inviter, team)) {
+        if (!teamMembershipCache.isMember(inviter.getId(), team.getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
-        User invitee = userRepository.findByLoginId(request.getLoginId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User invitee = userIdentityCache.getReference(request.getLoginId());
 
         if (teamMemberRepository.existsByUserAndTeam(invitee, team)) {
             throw new CustomException(ErrorCode.ALREADY_TEAM_MEMBER);
@@ -90,18 +91,18 @@ public class TeamService {
                 .build();
 
         TeamMember savedMember = teamMemberRepository.save(newMember);
+        teamMembershipCache.evict(invitee.getId(), team.getId());
 
         return TeamMemberResponse.from(savedMember);
     }
 
     public List<TeamMemberResponse> getTeamMembers(String loginId, Long teamId) {
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = userIdentityCache.getReference(loginId);
 
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
 
-        if (!teamMemberRepository.existsByUserAndTeam(user, team)) {
+        if (!teamMembershipCache.isMember(user.getId(), team.getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
@@ -113,13 +114,12 @@ public class TeamService {
     }
 
     public TeamDetailResponse getTeamDetail(Long teamId, String loginId) {
-        User user = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = userIdentityCache.getReference(loginId);
 
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
 
-        if (!teamMemberRepository.existsByUserAndTeam(user, team)) {
+        if (!teamMembershipCache.isMember(user.getId(), team.getId())) {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
@@ -8,6 +8,7 @@ import com.cowork.domain.user.service.UserService;
 import com.cowork.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -31,10 +32,11 @@ public class AuthController {
                 .body(ApiResponse.success("User registered successfully", response));
     }
 
-    @Operation(summary = "로그인", description = "로그인 후 JWT 토큰을 발급합니다.")
+    @Operation(summary = "로그인", description = "로그인 후 JWT 토큰을 발급합니다. 실패가 반복되거나 검증 대기열이 가득 차면 429를 반환합니다.")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = userService.login(request);
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
+        LoginResponse response = userService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 }
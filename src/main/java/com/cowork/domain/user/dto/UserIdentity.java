@@ -0,0 +1,14 @@
+package com.cowork.domain.user.dto;
+
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+
+/**
+ * 인증된 요청의 사용자 식별 정보. 비밀번호 해시 등 민감 정보는 담지 않습니다.
+ */
+public record UserIdentity(Long id, String loginId, String nickname, UserRole role) {
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getId(), user.getLoginId(), user.getNickname(), user.getRole());
+    }
+}
@@ -3,19 +3,34 @@ package com.cowork.domain.user.entity;
 import com.cowork.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = {
+                @Index(name = "idx_user_nickname", columnList = "nickname")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.LOGIN_ID_CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class User extends BaseTimeEntity {
 
+    // 2차 캐시 영역 (HibernateCacheConfig 에서 크기와 TTL 을 설정)
+    public static final String CACHE_REGION = "user";
+    public static final String LOGIN_ID_CACHE_REGION = "user-login-id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "login_id", length = 50, unique = true, nullable = false)
     private String loginId;
 
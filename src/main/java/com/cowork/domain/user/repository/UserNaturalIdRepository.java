@@ -0,0 +1,16 @@
+package com.cowork.domain.user.repository;
+
+import com.cowork.domain.user.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    /**
+     * loginId(natural id)로 조회합니다. 2차 캐시에 있으면 SQL 을 실행하지 않습니다.
+     * Session 을 꺼내 쓰므로 트랜잭션 밖(로그인 등)에서 호출해도 읽기 전용 트랜잭션을 엽니다.
+     */
+    @Transactional(readOnly = true)
+    Optional<User> findByLoginId(String loginId);
+}
@@ -0,0 +1,25 @@
+package com.cowork.domain.user.repository;
+
+import com.cowork.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * 파생 쿼리(where login_id = ?)는 쿼리 캐시 없이는 항상 SQL 을 실행하므로
+ * Hibernate natural id API 로 조회해 loginId → id 캐시와 엔티티 캐시를 거치게 합니다.
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByLoginId(String loginId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(loginId);
+    }
+}
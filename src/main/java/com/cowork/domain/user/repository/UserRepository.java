@@ -2,14 +2,27 @@ package com.cowork.domain.user.repository;
 
 import com.cowork.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
-    Optional<User> findByLoginId(String loginId);
+    List<User> findAllByLoginIdIn(Collection<String> loginIds);
 
     boolean existsByLoginId(String loginId);
 
     boolean existsByNickname(String nickname);
+
+    /**
+     * 로그인 시 재해시. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않도록 기존 해시를 조건으로 둡니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePassword(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
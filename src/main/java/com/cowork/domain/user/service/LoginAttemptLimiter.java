@@ -0,0 +1,71 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * loginId / IP 별 로그인 시도 횟수 제한.
+ * 시도는 BCrypt 검증 전에 먼저 세고(동시에 들어온 시도도 각각 한 번씩), 한도를 넘으면 429 로 거절합니다.
+ * 성공한 시도는 loginId 카운터를 초기화하고 IP 카운터에서 빼므로, 결국 window 안의 실패와 진행 중인 시도만 남습니다.
+ * loginId 한도는 특정 계정 대입을, IP 한도는 여러 계정을 도는 credential stuffing 을 막습니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Cache<String, AtomicInteger> attemptsByLoginId;
+    private final Cache<String, AtomicInteger> attemptsByIp;
+    private final int maxFailuresPerLoginId;
+    private final int maxFailuresPerIp;
+
+    public LoginAttemptLimiter(@Value("${cowork.security.login.max-failures-per-login-id:5}") int maxFailuresPerLoginId,
+                               @Value("${cowork.security.login.max-failures-per-ip:20}") int maxFailuresPerIp,
+                               @Value("${cowork.security.login.failure-window:5m}") Duration window) {
+        this.maxFailuresPerLoginId = maxFailuresPerLoginId;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.attemptsByLoginId = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+        this.attemptsByIp = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 시도를 세고, 어느 한쪽이라도 한도를 넘으면 거절합니다.
+     * 통과한 시도는 성공하면 {@link #recordSuccess(String, String)} 로 되돌리고, 실패하면 그대로 남겨 둡니다.
+     */
+    public void admit(String loginId, String ip) {
+        boolean loginIdExceeded = increment(attemptsByLoginId, loginId) > maxFailuresPerLoginId;
+        boolean ipExceeded = increment(attemptsByIp, ip) > maxFailuresPerIp;
+        if (loginIdExceeded || ipExceeded) {
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void recordSuccess(String loginId, String ip) {
+        attemptsByLoginId.invalidate(loginId);
+        if (ip != null) {
+            AtomicInteger count = attemptsByIp.getIfPresent(ip);
+            if (count != null) {
+                count.decrementAndGet();
+            }
+        }
+    }
+
+    private static int increment(Cache<String, AtomicInteger> attempts, String key) {
+        if (key == null) {
+            return 0;
+        }
+        // expireAfterWrite 기준 시각은 첫 시도로 고정됩니다 (카운터만 증가시키고 다시 저장하지 않음).
+        return attempts.get(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+}
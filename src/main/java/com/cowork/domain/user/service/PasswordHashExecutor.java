@@ -0,0 +1,92 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 해시/검증 전용 실행기.
+ * 스레드 수와 대기열을 제한해 로그인 폭주 시에도 BCrypt 가 나머지 API 의 CPU 를 잠식하지 않도록 하고,
+ * 대기열이 가득 차면 기다리지 않고 즉시 429 로 거절합니다.
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                MeterRegistry meterRegistry,
+                                @Value("${cowork.security.login.threads:0}") int threads,
+                                @Value("${cowork.security.login.queue-size:64}") int queueSize,
+                                @Value("${cowork.security.login.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        // 0 이면 코어의 절반만 사용해 요청 처리용 CPU 를 남겨 둡니다.
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeout.toMillis();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHash");
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 true. 해시 자체를 파싱하므로 CPU 비용이 거의 없습니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(ErrorCode.LOGIN_OVERLOADED);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CustomException(ErrorCode.LOGIN_OVERLOADED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.LOGIN_OVERLOADED);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.domain.user.dto.UserIdentity;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.datasource.PrimaryReads;
+import com.cowork.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * loginId → 사용자 식별 정보 캐시.
+ * 서비스 계층에서 요청마다 발생하던 users 조회를 없애고, 연관관계 설정이 필요한 경우에는
+ * {@link #getReference(String)} 로 SELECT 없이 프록시를 얻습니다.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<String, UserIdentity> cache;
+    // 무효화마다 증가. 조회 전후 값이 다르면 조회 결과가 무효화보다 오래되었을 수 있음
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserIdentityCache(UserRepository userRepository,
+                             PrimaryReads primaryReads,
+                             MeterRegistry meterRegistry,
+                             @Value("${cowork.cache.user-identity.maximum-size:10000}") long maximumSize,
+                             @Value("${cowork.cache.user-identity.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userIdentity");
+    }
+
+    public UserIdentity get(String loginId) {
+        UserIdentity cached = cache.getIfPresent(loginId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // cache.get(key, loader) 는 해시 버킷 잠금 안에서 조회를 수행해 가상 스레드를 carrier 에 고정시키므로
+        // 잠금 밖에서 조회한 뒤 저장합니다. 존재하지 않는 사용자는 캐싱하지 않습니다.
+        // 조회 도중 무효화가 있었으면 저장한 값이 오래되었을 수 있으므로 다시 지웁니다.
+        long before = generation.get();
+        // 캐시를 채우는 조회는 복제 지연이 없도록 주 데이터베이스에서 합니다.
+        UserIdentity identity = primaryReads.call(() -> userRepository.findByLoginId(loginId))
+                .map(UserIdentity::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        cache.put(loginId, identity);
+        if (generation.get() != before) {
+            cache.invalidate(loginId);
+        }
+        return identity;
+    }
+
+    public User getReference(String loginId) {
+        return userRepository.getReferenceById(get(loginId).id());
+    }
+
+    public void evict(String loginId) {
+        invalidate(loginId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(loginId);
+                }
+            });
+        }
+    }
+
+    // 세대를 먼저 올려야 진행 중인 조회가 저장 직후 이를 보고 스스로 지웁니다.
+    private void invalidate(String loginId) {
+        generation.incrementAndGet();
+        cache.invalidate(loginId);
+    }
+}
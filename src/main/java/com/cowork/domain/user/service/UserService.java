@@ -11,8 +11,8 @@ import com.cowork.global.exception.CustomException;
 import com.cowork.global.exception.ErrorCode;
 import com.cowork.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -21,7 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     private final JwtUtil jwtUtil;
 
     @Transactional
@@ -37,7 +38,7 @@ public class UserService {
         // 비밀번호 암호화 및 User 생성
         User user = User.builder()
                 .loginId(request.getLoginId())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashExecutor.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .role(UserRole.USER)
                 .build();
@@ -46,15 +47,28 @@ public class UserService {
         return UserResponse.from(savedUser);
     }
 
-    public LoginResponse login(LoginRequest request) {
+    // BCrypt 검증 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        String loginId = request.getLoginId();
+        // 시도를 먼저 세어 두므로, 아래에서 실패하면 별도 기록 없이 그대로 실패 횟수로 남습니다.
+        loginAttemptLimiter.admit(loginId, clientIp);
+
         // 사용자 조회
-        User user = userRepository.findByLoginId(request.getLoginId())
+        User user = userRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashExecutor.matches(request.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
+        loginAttemptLimiter.recordSuccess(loginId, clientIp);
+
+        // 해시 cost 설정이 올라갔으면 평문을 알고 있는 지금 새 cost 로 다시 저장
+        if (passwordHashExecutor.needsRehash(user.getPassword())) {
+            String rehashed = passwordHashExecutor.encode(request.getPassword());
+            userRepository.updatePassword(user.getId(), user.getPassword(), rehashed);
+        }
 
         // JWT 토큰 생성
         String token = jwtUtil.createToken(user.getLoginId(), user.getRole().name());
@@ -0,0 +1,91 @@
+package com.cowork.global.config;
+
+import com.cowork.global.datasource.ReadYourWritesGuard;
+import com.cowork.global.datasource.ReplicaRoutingDataSource;
+import com.cowork.global.datasource.ReplicaSelectionPolicy;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (opt-in). cowork.datasource.routing.enabled=true 일 때만 적용되며,
+ * 꺼져 있으면 Spring Boot 가 spring.datasource 로 만드는 단일 DataSource 를 그대로 사용합니다.
+ * 복제본 풀은 주 데이터베이스 풀(spring.datasource.hikari)과 같은 설정에 URL 만 바꿔 만듭니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cowork.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(
+            @Value("${cowork.datasource.routing.read-your-writes-window:5s}") Duration window,
+            @Value("${cowork.datasource.routing.read-your-writes-maximum-size:100000}") long maximumSize) {
+        return new ReadYourWritesGuard(window, maximumSize);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ReadYourWritesGuard readYourWritesGuard,
+            MeterRegistry meterRegistry,
+            @Value("${cowork.datasource.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${cowork.datasource.routing.replica-username:}") String replicaUsername,
+            @Value("${cowork.datasource.routing.replica-password:}") String replicaPassword,
+            @Value("${cowork.datasource.routing.selection:ROUND_ROBIN}") ReplicaSelectionPolicy selection) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            config.setUsername(StringUtils.hasText(replicaUsername) ? replicaUsername : properties.determineUsername());
+            config.setPassword(StringUtils.hasText(replicaPassword) ? replicaPassword : properties.determinePassword());
+            config.setReadOnly(true);
+            // 주 데이터베이스 풀과 같은 hikaricp.* 지표를 pool 태그로 구분해 내보냅니다.
+            config.setMetricRegistry(null);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, selection, readYourWritesGuard, meterRegistry);
+    }
+
+    /**
+     * JPA, Flyway, JdbcTemplate 이 사용하는 DataSource.
+     * 트랜잭션이 시작된 뒤 첫 SQL 을 실행할 때 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있습니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
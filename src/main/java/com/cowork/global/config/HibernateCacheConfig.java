@@ -0,0 +1,68 @@
+package com.cowork.global.config;
+
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Team, User 엔티티와 loginId natural id 를 Hibernate 2차 캐시(JCache + Caffeine)에 둡니다.
+ * 영역은 여기서 크기와 TTL 을 정해 미리 만들고, 설정되지 않은 영역이 생기면 기동에 실패하도록 합니다.
+ * 적중률은 cache.gets{cache=team|user|user-login-id, result=hit|miss} 로 확인합니다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            MeterRegistry meterRegistry,
+            @Value("${cowork.cache.hibernate.team.maximum-size:10000}") long teamMaximumSize,
+            @Value("${cowork.cache.hibernate.team.ttl:30m}") Duration teamTtl,
+            @Value("${cowork.cache.hibernate.user.maximum-size:10000}") long userMaximumSize,
+            @Value("${cowork.cache.hibernate.user.ttl:30m}") Duration userTtl) {
+        // 기본 CacheManager 는 JVM 전역이므로 컨텍스트마다 별도 URI 로 만들어 영역이 섞이지 않게 합니다.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("cowork:hibernate-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, meterRegistry, Team.CACHE_REGION, teamMaximumSize, teamTtl);
+        createRegion(cacheManager, meterRegistry, User.CACHE_REGION, userMaximumSize, userTtl);
+        // natural id 영역은 loginId → id 만 담으므로 엔티티 영역과 같은 한도를 사용합니다.
+        createRegion(cacheManager, meterRegistry, User.LOGIN_ID_CACHE_REGION, userMaximumSize, userTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry,
+                                     String region, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration));
+    }
+}
@@ -2,7 +2,9 @@ package com.cowork.global.config;
 
 import com.cowork.global.jwt.JwtFilter;
 import com.cowork.global.jwt.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,8 +24,8 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${cowork.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -46,9 +48,14 @@ public class SecurityConfig {
 
         // 권한 설정
         http.authorizeHttpRequests(auth -> auth
+                // SSE/스트리밍 응답의 비동기 재디스패치는 최초 요청에서 이미 인증되었음
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                // 지표(prometheus 스크레이프 포함)는 ADMIN 토큰으로만 조회합니다.
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // [삭제됨] .requestMatchers("/h2-console/**").permitAll() -> 이 줄이 범인이었습니다!
 
                 // Private endpoints
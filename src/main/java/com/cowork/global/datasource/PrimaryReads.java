@@ -0,0 +1,44 @@
+package com.cowork.global.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연이 있으면 안 되는 조회를 주 데이터베이스에서 실행합니다.
+ * 무효화 직후 캐시를 다시 채우는 조회가 아직 반영되지 않은 복제본을 읽으면 오래된 값이 TTL 동안 남기 때문입니다.
+ * 라우팅이 꺼져 있거나 이미 쓰기 트랜잭션(주 데이터베이스) 안이면 그대로 실행합니다.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate newTransaction;
+    private final boolean routingEnabled;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${cowork.datasource.routing.enabled:false}") boolean routingEnabled) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.newTransaction.setReadOnly(true);
+        this.routingEnabled = routingEnabled;
+    }
+
+    public <T> T call(Supplier<T> query) {
+        if (!routingEnabled) {
+            return query.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ReplicaRoutingDataSource.onPrimary(query);
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        // 읽기 전용 트랜잭션은 이미 복제본 커넥션을 잡고 있을 수 있으므로 새 트랜잭션에서 커넥션을 새로 얻습니다.
+        return ReplicaRoutingDataSource.onPrimary(() -> newTransaction.execute(status -> query.get()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.cowork.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 쓰기를 커밋한 사용자의 읽기를 일정 시간 동안 주 데이터베이스로 보냅니다.
+ * 복제 지연 때문에 방금 만든 업무나 댓글이 목록에서 사라져 보이지 않도록 하기 위함입니다.
+ * 사용자는 인증 주체(loginId)로 구분하며, 인증 정보가 없는 요청과 배치 작업은 대상이 아닙니다.
+ */
+public class ReadYourWritesGuard {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public boolean isPinnedToPrimary() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 현재 사용자를 주 데이터베이스에 고정합니다.
+     * 롤백된 트랜잭션은 복제본과 주 데이터베이스의 차이를 만들지 않으므로 기록하지 않습니다.
+     */
+    public void onWriteTransaction() {
+        String principal = currentPrincipal();
+        if (principal == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(principal, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
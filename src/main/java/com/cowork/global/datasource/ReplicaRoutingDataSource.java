@@ -0,0 +1,158 @@
+package com.cowork.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 데이터베이스로 보내는 DataSource.
+ * 트랜잭션의 readOnly 속성은 커넥션을 얻은 뒤에 정해지므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ * 최근에 쓰기를 커밋한 사용자의 읽기는 {@link ReadYourWritesGuard} 에 따라 주 데이터베이스로 보냅니다.
+ * {@link #onPrimary(Supplier)} 안에서 얻는 커넥션은 readOnly 여부와 관계없이 주 데이터베이스를 사용합니다.
+ * 복제본 풀은 이 객체가 소유하며 함께 닫힙니다. 주 데이터베이스 풀은 호출한 쪽이 관리합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReplicaSelectionPolicy selectionPolicy;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter primaryRoutes;
+    private final Counter pinnedRoutes;
+    private final Counter forcedRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<DataSource> replicas,
+                                    ReplicaSelectionPolicy selectionPolicy,
+                                    ReadYourWritesGuard readYourWritesGuard,
+                                    MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica DataSource is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = new ArrayList<>(replicas.size());
+        this.selectionPolicy = selectionPolicy;
+        this.readYourWritesGuard = readYourWritesGuard;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary", "write");
+        this.pinnedRoutes = routeCounter(meterRegistry, "primary", "read-your-writes");
+        this.forcedRoutes = routeCounter(meterRegistry, "primary", "forced");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+    }
+
+    /**
+     * action 안에서 새로 얻는 커넥션을 주 데이터베이스로 보냅니다. 쓰기로 보지 않으므로 사용자를 고정하지 않습니다.
+     * 이미 커넥션을 얻은 트랜잭션에는 영향이 없으므로 필요하면 action 안에서 새 트랜잭션을 시작해야 합니다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() != null) {
+            forcedRoutes.increment();
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            readYourWritesGuard.onWriteTransaction();
+            return PRIMARY;
+        }
+        if (readYourWritesGuard.isPinnedToPrimary()) {
+            pinnedRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replicaKeys.get(selectReplica());
+    }
+
+    private int selectReplica() {
+        if (replicas.size() == 1) {
+            return 0;
+        }
+        return switch (selectionPolicy) {
+            case ROUND_ROBIN -> Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+            case LEAST_CONNECTIONS -> leastConnections();
+        };
+    }
+
+    private int leastConnections() {
+        // 동률이면 라운드 로빈 순서로 시작 위치를 옮겨 한 복제본에만 몰리지 않게 합니다.
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        int selected = start;
+        int fewest = Integer.MAX_VALUE;
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            int index = (start + offset) % replicas.size();
+            int active = activeConnections(replicas.get(index));
+            if (active < fewest) {
+                fewest = active;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            // 풀이 아직 시작되지 않았으면 MXBean 이 없습니다.
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+        return 0;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("cowork.datasource.routes")
+                .description("Connections routed to the primary or a replica")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+}
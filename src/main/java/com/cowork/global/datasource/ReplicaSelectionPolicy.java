@@ -0,0 +1,11 @@
+package com.cowork.global.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제본을 고르는 방식.
+ */
+public enum ReplicaSelectionPolicy {
+    /** 복제본을 차례대로 사용합니다. */
+    ROUND_ROBIN,
+    /** 사용 중인 커넥션이 가장 적은 복제본을 사용합니다. (HikariCP 풀 기준) */
+    LEAST_CONNECTIONS
+}
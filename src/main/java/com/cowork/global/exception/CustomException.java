@@ -16,4 +16,9 @@ public class CustomException extends RuntimeException {
         super(message);
         this.errorCode = errorCode;
     }
+
+    public CustomException(ErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
 }
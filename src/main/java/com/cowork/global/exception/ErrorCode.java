@@ -11,12 +11,15 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "Invalid input value"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "Internal server error"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C003", "Invalid cursor"),
 
     // Auth
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "Unauthorized"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A002", "Invalid token"),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "A003", "Expired token"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "A004", "Access denied"),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A005", "Too many failed login attempts"),
+    LOGIN_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "A006", "Login service is busy, please retry"),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "User not found"),
@@ -34,7 +37,9 @@ public enum ErrorCode {
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "K001", "Task not found"),
     TASK_ALREADY_DELETED(HttpStatus.BAD_REQUEST, "K002", "Task is already deleted"),
     TASK_VERSION_CONFLICT(HttpStatus.CONFLICT, "K003", "Task has been modified by another user"),
-    WORKER_NOT_TEAM_MEMBER(HttpStatus.BAD_REQUEST, "K004", "Worker is not a team member");
+    WORKER_NOT_TEAM_MEMBER(HttpStatus.BAD_REQUEST, "K004", "Worker is not a team member"),
+    INVALID_PARENT_TASK(HttpStatus.BAD_REQUEST, "K005", "Invalid parent task"),
+    TASK_PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "K006", "Task does not match the If-Match precondition");
 
     private final HttpStatus status;
     private final String code;
@@ -1,9 +1,12 @@
 package com.cowork.global.exception;
 
+import com.cowork.global.metrics.ErrorMetrics;
 import com.cowork.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,17 +17,32 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorMetrics errorMetrics;
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
         log.error("CustomException: {}", e.getMessage());
         ErrorCode errorCode = e.getErrorCode();
+        errorMetrics.record(errorCode, e.getCause() instanceof ObjectOptimisticLockingFailureException);
         return ResponseEntity
                 .status(errorCode.getStatus())
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    // 서비스에서 변환되지 않은 낙관적 잠금 실패 (커밋 시점 flush 등)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.TASK_VERSION_CONFLICT;
+        errorMetrics.record(errorCode, true);
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.error(errorCode.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(
             MethodArgumentNotValidException e) {
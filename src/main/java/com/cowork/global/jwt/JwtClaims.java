@@ -0,0 +1,13 @@
+package com.cowork.global.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰에서 필터가 사용하는 클레임만 추린 값 객체.
+ */
+public record JwtClaims(String loginId, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -35,26 +36,21 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String token = authorization.substring(7);
 
-        if (!jwtUtil.validateToken(token)) {
-            log.warn("Invalid JWT token");
+        // 서명 검증과 만료 확인을 한 번의 파싱으로 처리
+        Optional<JwtClaims> verified = jwtUtil.verify(token);
+        if (verified.isEmpty()) {
+            log.warn("Invalid or expired JWT token");
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (jwtUtil.isExpired(token)) {
-            log.warn("Expired JWT token");
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        String loginId = jwtUtil.getLoginId(token);
-        String role = jwtUtil.getRole(token);
+        JwtClaims claims = verified.get();
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
-                        loginId,
+                        claims.loginId(),
                         null,
-                        List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                        List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))
                 );
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,28 +1,50 @@
 package com.cowork.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final Key key;
+    private final long expirationTime;
 
-    @Value("${jwt.expiration}")
-    private long expirationTime;
+    // JwtParser 는 불변이며 스레드 안전하므로 한 번만 생성해 재사용합니다.
+    private final JwtParser jwtParser;
 
-    private Key key;
+    // 검증된 클레임 캐시 (토큰 SHA-256 다이제스트 → 클레임, 토큰 만료 시각에 제거)
+    private final Cache<ByteBuffer, JwtClaims> claimsCache;
 
-    @PostConstruct
-    public void init() {
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.expiration}") long expirationTime,
+                   @Value("${jwt.claims-cache.enabled:true}") boolean claimsCacheEnabled,
+                   @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.expirationTime = expirationTime;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.claimsCache = claimsCacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(claimsCacheMaximumSize)
+                        .expireAfter(new ClaimsExpiry())
+                        .build()
+                : null;
     }
 
     public String createToken(String loginId, String role) {
@@ -38,6 +60,29 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 검증하여 클레임을 반환합니다.
+     * 서명이 유효하지 않거나 만료된 토큰이면 빈 값을 반환합니다.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        if (claimsCache == null) {
+            return parseVerifiedClaims(token);
+        }
+
+        ByteBuffer digest = digest(token);
+        JwtClaims cached = claimsCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        Optional<JwtClaims> verified = parseVerifiedClaims(token);
+        verified.ifPresent(claims -> claimsCache.put(digest, claims));
+        return verified;
+    }
+
     public String getLoginId(String token) {
         return parseClaims(token).get("loginId", String.class);
     }
@@ -63,11 +108,53 @@ public class JwtUtil {
         }
     }
 
+    private Optional<JwtClaims> parseVerifiedClaims(String token) {
+        try {
+            // 만료된 토큰은 파서가 ExpiredJwtException 을 던집니다.
+            Claims claims = parseClaims(token);
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtClaims(
+                    claims.get("loginId", String.class),
+                    claims.get("role", String.class),
+                    expiration.toInstant()
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ClaimsExpiry implements Expiry<ByteBuffer, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtClaims value, long currentTime) {
+            long nanos = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(nanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.cowork.global.metrics;
+
+import com.cowork.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오류 코드별 발생 횟수(cowork.errors).
+ * optimistic_lock 태그로 JPA 낙관적 잠금 실패(ObjectOptimisticLockingFailureException)와
+ * 요청의 version/If-Match 불일치를 구분합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(ErrorCode errorCode, boolean optimisticLock) {
+        Counter.builder("cowork.errors")
+                .description("Errors by error code")
+                .tags("code", errorCode.getCode(),
+                        "name", errorCode.name(),
+                        "optimistic_lock", Boolean.toString(optimisticLock))
+                .register(meterRegistry)
+                .increment();
+    }
+}
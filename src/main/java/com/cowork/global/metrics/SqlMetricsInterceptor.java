@@ -0,0 +1,67 @@
+package com.cowork.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 요청당 SQL 실행 횟수(cowork.http.sql.statements)와 실행 시간(cowork.http.sql.time)을 기록합니다.
+ * uri 태그는 http.server.requests 와 같은 경로 패턴을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리가 끝난 뒤의 ASYNC 재디스패치는 첫 디스패치에서 이미 기록했으므로 다시 집계하지 않습니다.
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            SqlRequestStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // SSE/스트리밍 응답은 요청 스레드를 떠나는 시점까지만 집계
+        record(request);
+    }
+
+    private void record(HttpServletRequest request) {
+        SqlRequestStats stats = SqlRequestStats.end();
+        if (stats == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("cowork.http.sql.statements")
+                .description("SQL statements executed per request")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("cowork.http.sql.time")
+                .description("Time spent executing SQL per request")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+}
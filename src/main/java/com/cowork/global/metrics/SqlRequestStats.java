@@ -0,0 +1,51 @@
+package com.cowork.global.metrics;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 수와 실행 시간 누적값.
+ * 요청 스레드에 묶어 두고 {@link SqlStatementListener} 가 Hibernate 세션 이벤트로 채웁니다.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+    private long startedAt;
+
+    private SqlRequestStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new SqlRequestStats());
+    }
+
+    /**
+     * 현재 요청의 누적값을 반환하고 스레드에서 분리합니다. 시작되지 않은 경우 null 입니다.
+     */
+    public static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementStarted() {
+        startedAt = System.nanoTime();
+    }
+
+    void statementEnded() {
+        statements++;
+        nanos += System.nanoTime() - startedAt;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
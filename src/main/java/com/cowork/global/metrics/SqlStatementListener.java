@@ -0,0 +1,44 @@
+package com.cowork.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션마다 생성되어 JDBC 실행 횟수와 시간을 현재 요청의 {@link SqlRequestStats} 에 더합니다.
+ * hibernate.session.events.auto 로 등록되며, 요청 밖(기동 작업, 비동기 스트리밍 등)에서는 아무 일도 하지 않습니다.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ended();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ended();
+    }
+
+    private static void started() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    private static void ended() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementEnded();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.cowork.global.pagination;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 keyset 페이지네이션 커서.
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 토큰으로만 노출됩니다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cowork.global.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageSizeResolver {
+
+    @Value("${cowork.pagination.default-size:50}")
+    private int defaultSize;
+
+    @Value("${cowork.pagination.max-size:200}")
+    private int maxSize;
+
+    public int resolve(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
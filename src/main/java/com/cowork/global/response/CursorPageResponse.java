@@ -0,0 +1,34 @@
+package com.cowork.global.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    /**
+     * size + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단합니다.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                 Function<E, T> mapper,
+                                                 Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
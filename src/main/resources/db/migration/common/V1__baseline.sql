@@ -0,0 +1,160 @@
+-- ddl-auto 로 관리되던 시점의 스키마. 기존 데이터베이스는 baseline-on-migrate 로 이 버전을 건너뜁니다.
+-- 제약 조건 이름은 Hibernate 가 생성한 이름을 그대로 사용해 기존 데이터베이스와 일치시킵니다.
+
+create table users (
+    id bigint not null auto_increment,
+    login_id varchar(50) not null,
+    password varchar(255) not null,
+    nickname varchar(50) not null,
+    role enum ('ADMIN','USER') not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table teams (
+    id bigint not null auto_increment,
+    name varchar(100) not null,
+    description text,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table team_members (
+    id bigint not null auto_increment,
+    team_id bigint not null,
+    user_id bigint not null,
+    role enum ('LEADER','MEMBER') not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table tasks (
+    id bigint not null,
+    team_id bigint not null,
+    worker_id bigint,
+    parent_id bigint,
+    path varchar(700),
+    depth integer,
+    title varchar(200) not null,
+    content text,
+    status enum ('DONE','IN_PROGRESS','TODO') not null,
+    priority enum ('HIGH','LOW','MEDIUM') not null,
+    deadline datetime(6),
+    comment_count bigint,
+    version bigint,
+    deleted_at datetime(6),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table comments (
+    id bigint not null auto_increment,
+    content text not null,
+    task_id bigint not null,
+    writer_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create table id_generator (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+);
+
+create table team_task_stats (
+    team_id bigint not null,
+    total_count bigint not null,
+    todo_count bigint not null,
+    in_progress_count bigint not null,
+    done_count bigint not null,
+    low_count bigint not null,
+    medium_count bigint not null,
+    high_count bigint not null,
+    unassigned_count bigint not null,
+    change_stamp bigint not null,
+    updated_at datetime(6),
+    primary key (team_id)
+);
+
+create table team_task_deadline_stats (
+    team_id bigint not null,
+    deadline_date date not null,
+    open_count bigint not null,
+    primary key (deadline_date, team_id)
+);
+
+create table task_deadline_alerts (
+    task_id bigint not null,
+    user_id bigint not null,
+    team_id bigint not null,
+    state enum ('DUE_SOON','OVERDUE') not null,
+    deadline datetime(6) not null,
+    primary key (task_id)
+);
+
+create table task_deadline_watermarks (
+    state enum ('DUE_SOON','OVERDUE') not null,
+    watermark datetime(6) not null,
+    primary key (state)
+);
+
+create table tasks_archive (
+    id bigint not null,
+    team_id bigint not null,
+    worker_id bigint,
+    parent_id bigint,
+    path varchar(700),
+    depth integer,
+    title varchar(200) not null,
+    content text,
+    status enum ('DONE','IN_PROGRESS','TODO') not null,
+    priority enum ('HIGH','LOW','MEDIUM') not null,
+    deadline datetime(6),
+    comment_count bigint,
+    version bigint,
+    deleted_at datetime(6),
+    created_at datetime(6),
+    updated_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id)
+);
+
+create table comments_archive (
+    id bigint not null,
+    content text not null,
+    task_id bigint not null,
+    writer_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create index idx_task_team_created on tasks (team_id, deleted_at, created_at, id);
+create index idx_task_path on tasks (path);
+create index idx_task_deadline on tasks (deadline, status, deleted_at);
+create index idx_task_deleted on tasks (deleted_at);
+create index idx_comment_task_created on comments (task_id, created_at, id);
+create index idx_deadline_alert_user on task_deadline_alerts (user_id, state, deadline, task_id);
+create index idx_task_archive_team on tasks_archive (team_id, archived_at);
+create index idx_comment_archive_task on comments_archive (task_id);
+
+alter table users add constraint UKi3xs7wmfu2i3jt079uuetycit unique (login_id);
+alter table team_members add constraint uk_team_member_user_team unique (user_id, team_id);
+
+alter table team_members add constraint FKtgca08el3ofisywcf11f0f76t foreign key (team_id) references teams (id);
+alter table team_members add constraint FKee8x7x5026imwmma9kndkxs36 foreign key (user_id) references users (id);
+alter table tasks add constraint FK7ohls81a92yq2hlgcml3h1atu foreign key (team_id) references teams (id);
+alter table tasks add constraint FKqpx2odyu850h13w1fnk5woq6a foreign key (worker_id) references users (id);
+alter table tasks add constraint FKmhda52toac2weso6474wmldtn foreign key (parent_id) references tasks (id);
+alter table comments add constraint FKi7pp0331nbiwd2844kg78kfwb foreign key (task_id) references tasks (id);
+alter table comments add constraint FKtdvhgjfwg764l2sltaixna6ku foreign key (writer_id) references users (id);
+alter table task_deadline_alerts add constraint FK2pnref1ixi6ivqsqngorseljy foreign key (task_id) references tasks (id);
+
+-- pooled 최적화기는 저장된 값을 할당 구간의 상한으로 해석하므로 한 구간(50)만큼 여유를 둡니다.
+insert into id_generator (sequence_name, next_val) values ('tasks', 51);
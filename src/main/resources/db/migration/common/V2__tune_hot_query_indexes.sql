@@ -0,0 +1,17 @@
+-- 담당자별 업무 목록 (findMyTasks, findAllByWorkerIdAndDeletedAtIsNull): 정렬까지 인덱스 순서로 처리
+-- worker_id 외래 키가 사용하던 암묵적 인덱스를 대체합니다.
+create index idx_task_worker_created on tasks (worker_id, deleted_at, created_at, id);
+
+-- 하위 업무 조회 (findAllByParentIdAndDeletedAtIsNull) 와 보관 작업의 하위 업무 존재 확인
+create index idx_task_parent on tasks (parent_id, deleted_at);
+
+-- 팀 멤버 목록 (findByTeam) 과 멤버 여부 일괄 확인 (findMemberUserIds): (team_id, user_id) 만으로 처리
+-- user_id 로 시작하는 조회는 uk_team_member_user_team 을 사용합니다.
+create index idx_team_member_team on team_members (team_id, user_id);
+
+-- 회원가입 시 닉네임 중복 확인 (existsByNickname)
+create index idx_user_nickname on users (nickname);
+
+-- 지연 업무 수 집계 (sumOverdue: team_id = ? and deadline_date < ?) 가 기본 키 범위 스캔이 되도록 컬럼 순서 변경
+alter table team_task_deadline_stats drop primary key;
+alter table team_task_deadline_stats add primary key (team_id, deadline_date);
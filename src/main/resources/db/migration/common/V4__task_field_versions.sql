@@ -0,0 +1,17 @@
+-- 필드 단위 병합: 필드별로 마지막으로 값이 바뀐 업무 버전
+alter table tasks add column title_version bigint not null default 0;
+alter table tasks add column content_version bigint not null default 0;
+alter table tasks add column status_version bigint not null default 0;
+alter table tasks add column priority_version bigint not null default 0;
+alter table tasks add column deadline_version bigint not null default 0;
+alter table tasks add column worker_version bigint not null default 0;
+
+-- 기존 업무는 어느 필드가 언제 바뀌었는지 알 수 없으므로 모든 필드가 현재 버전에서 바뀐 것으로 봅니다.
+-- (현재 버전보다 오래된 요청은 이전과 같이 충돌로 거절됩니다.)
+update tasks
+set title_version    = coalesce(version, 0),
+    content_version  = coalesce(version, 0),
+    status_version   = coalesce(version, 0),
+    priority_version = coalesce(version, 0),
+    deadline_version = coalesce(version, 0),
+    worker_version   = coalesce(version, 0);
@@ -0,0 +1,17 @@
+-- 업무 활동 기록 (append-only). 보관된 업무의 이력도 남도록 외래 키는 두지 않습니다.
+create table task_activities (
+    id bigint not null auto_increment,
+    task_id bigint not null,
+    team_id bigint not null,
+    actor_id bigint,
+    type enum ('CREATED','DELETED','UPDATED') not null,
+    field enum ('CONTENT','DEADLINE','PRIORITY','STATUS','TITLE','WORKER'),
+    old_value text,
+    new_value text,
+    version bigint,
+    occurred_at datetime(6) not null,
+    primary key (id)
+);
+
+-- 업무별 최신순 조회 (GET /api/tasks/{taskId}/activity)
+create index idx_task_activity_task on task_activities (task_id, occurred_at, id);
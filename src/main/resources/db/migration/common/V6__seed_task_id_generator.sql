@@ -0,0 +1,18 @@
+-- baseline-on-migrate 로 V1 을 건너뛴 기존 데이터베이스에도 tasks 의 id 생성기 행을 맞춥니다.
+-- (이전에는 기동 시 TaskIdGeneratorInitializer 가 하던 일입니다. 전문 인덱스는 mysql/V3 이 같은 방식으로 처리합니다.)
+-- pooled 최적화기는 저장된 값을 할당 구간의 상한으로 해석하므로 max(id) 에 한 구간(50)만큼 여유를 둡니다.
+-- 새로 만든 데이터베이스에서는 V1 이 넣은 행이 이미 충분하므로 아무것도 바꾸지 않습니다.
+create table if not exists id_generator (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+);
+
+insert into id_generator (sequence_name, next_val)
+select 'tasks', coalesce(max(id), 0) + 51 from tasks
+where not exists (select 1 from id_generator where sequence_name = 'tasks');
+
+update id_generator
+set next_val = (select coalesce(max(id), 0) + 51 from tasks)
+where sequence_name = 'tasks'
+  and (next_val is null or next_val <= (select coalesce(max(id), 0) from tasks));
@@ -0,0 +1,11 @@
+-- 업무 검색 (searchByKeyword) 용 n-gram 전문 인덱스. MySQL 전용입니다.
+-- 이전 버전이 기동 시 생성해 둔 데이터베이스에서는 건너뜁니다.
+set @index_exists := (select count(*) from information_schema.statistics
+                      where table_schema = database() and table_name = 'tasks'
+                        and index_name = 'ft_task_title_content');
+set @ddl := if(@index_exists = 0,
+               'alter table tasks add fulltext index ft_task_title_content (title, content) with parser ngram',
+               'select 1');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
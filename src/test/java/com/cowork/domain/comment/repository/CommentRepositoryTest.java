@@ -0,0 +1,109 @@
+package com.cowork.domain.comment.repository;
+
+import com.cowork.domain.comment.dto.CommentResponse;
+import com.cowork.domain.comment.entity.Comment;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentRepositoryTest {
+
+    private static final int COMMENT_COUNT = 30;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Team team = em.persist(Team.builder().name("team").build());
+        task = em.persist(Task.builder()
+                .team(team)
+                .title("title")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build());
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            // 작성자마다 다른 User 를 사용해야 지연 로딩 쿼리가 작성자 수만큼 발생합니다.
+            User writer = em.persist(User.builder()
+                    .loginId("user" + i)
+                    .password("pw")
+                    .nickname("nick" + i)
+                    .role(UserRole.USER)
+                    .build());
+            em.persist(Comment.builder().content("comment" + i).task(task).writer(writer).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void commentPagesAreLoadedWithSingleStatementEach() {
+        Statistics statistics = statistics();
+
+        List<Comment> first = commentRepository.findCommentsFirstPage(task.getId(), Limit.of(PAGE_SIZE));
+        List<CommentResponse> firstResponses = first.stream().map(CommentResponse::from).toList();
+
+        assertThat(firstResponses).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        Comment last = first.get(first.size() - 1);
+        List<Comment> second = commentRepository.findCommentsAfter(
+                task.getId(), last.getCreatedAt(), last.getId(), Limit.of(COMMENT_COUNT));
+
+        assertThat(second).hasSize(COMMENT_COUNT - PAGE_SIZE);
+        assertThat(second).extracting(Comment::getId).doesNotContainAnyElementsOf(
+                first.stream().map(Comment::getId).toList());
+        assertThat(second.stream().map(CommentResponse::from).toList())
+                .allSatisfy(r -> assertThat(r.getWriterNickname()).startsWith("nick"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void commentCountIsIncrementedInPlace() {
+        taskRepository.incrementCommentCount(task.getId());
+        taskRepository.incrementCommentCount(task.getId());
+        em.clear();
+
+        assertThat(taskRepository.findById(task.getId()))
+                .get()
+                .extracting(Task::getCommentCount)
+                .isEqualTo(2L);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
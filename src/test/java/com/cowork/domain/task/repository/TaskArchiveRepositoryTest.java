@@ -0,0 +1,118 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.comment.entity.Comment;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.support.MySqlModeDataJpaTest;
+import com.cowork.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlModeDataJpaTest
+class TaskArchiveRepositoryTest {
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Team team;
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        team = em.persist(TestFixtures.team());
+        writer = em.persist(TestFixtures.user("writer"));
+    }
+
+    @Test
+    void movesExpiredTasksWithCommentsAndRestoresThem() {
+        Task parent = em.persist(task(null));
+        Task child = em.persist(task(parent));
+        Task recent = em.persist(task(null));
+        em.persist(Comment.builder().content("c1").task(child).writer(writer).build());
+        em.persist(Comment.builder().content("c2").task(child).writer(writer).build());
+        parent.softDelete();
+        child.softDelete();
+        recent.softDelete();
+        em.flush();
+        LocalDateTime cutoff = LocalDateTime.now().plusSeconds(1);
+        em.getEntityManager().createNativeQuery("update tasks set deleted_at = :old where id <> :recent")
+                .setParameter("old", cutoff.minusDays(1))
+                .setParameter("recent", recent.getId())
+                .executeUpdate();
+        em.clear();
+
+        // 하위 업무가 남아 있는 parent 는 child 가 먼저 보관된 뒤 대상이 됩니다.
+        LocalDateTime archiveCutoff = cutoff.minusHours(1);
+        List<Long> first = taskArchiveRepository.findArchivableIds(archiveCutoff, 10);
+        assertThat(first).containsExactly(child.getId());
+        taskArchiveRepository.copyTasksToArchive(first, archiveCutoff, LocalDateTime.now());
+        assertThat(taskArchiveRepository.copyCommentsToArchive(first, archiveCutoff)).isEqualTo(2);
+        taskArchiveRepository.deleteComments(first, archiveCutoff);
+        assertThat(taskArchiveRepository.deleteTasks(first, archiveCutoff)).isEqualTo(1);
+        assertThat(taskArchiveRepository.findArchivableIds(archiveCutoff, 10)).containsExactly(parent.getId());
+
+        taskArchiveRepository.copyTaskFromArchive(child.getId(), null, "/", 0);
+        assertThat(taskArchiveRepository.copyCommentsFromArchive(child.getId())).isEqualTo(2);
+        taskArchiveRepository.deleteArchivedComments(child.getId());
+        taskArchiveRepository.deleteArchivedTask(child.getId());
+        em.clear();
+
+        Task restored = taskRepository.findById(child.getId()).orElseThrow();
+        assertThat(restored.getParent()).isNull();
+        assertThat(restored.getPath()).isEqualTo("/");
+        assertThat(taskArchiveRepository.count()).isZero();
+    }
+
+    @Test
+    void taskRestoredAfterSelectionIsNeitherCopiedNorDeleted() {
+        Task task = em.persist(task(null));
+        em.persist(Comment.builder().content("c1").task(task).writer(writer).build());
+        task.softDelete();
+        em.flush();
+        LocalDateTime cutoff = LocalDateTime.now().plusSeconds(1);
+        em.getEntityManager().createNativeQuery("update tasks set deleted_at = :old where id = :id")
+                .setParameter("old", cutoff.minusDays(1))
+                .setParameter("id", task.getId())
+                .executeUpdate();
+        em.clear();
+
+        List<Long> ids = taskArchiveRepository.findArchivableIds(cutoff, 10);
+        assertThat(ids).containsExactly(task.getId());
+
+        // 조회와 보관 단계 사이에 복원이 커밋된 경우
+        Task restored = taskRepository.findById(task.getId()).orElseThrow();
+        restored.restore();
+        em.flush();
+        em.clear();
+
+        assertThat(taskArchiveRepository.copyTasksToArchive(ids, cutoff, LocalDateTime.now())).isZero();
+        assertThat(taskArchiveRepository.copyCommentsToArchive(ids, cutoff)).isZero();
+        assertThat(taskArchiveRepository.deleteComments(ids, cutoff)).isZero();
+        assertThat(taskArchiveRepository.deleteDeadlineAlerts(ids, cutoff)).isZero();
+        assertThat(taskArchiveRepository.deleteTasks(ids, cutoff)).isZero();
+
+        assertThat(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).isPresent();
+        assertThat(em.getEntityManager().createNativeQuery("select count(*) from comments where task_id = :id")
+                .setParameter("id", task.getId())
+                .getSingleResult()).isEqualTo(1L);
+        assertThat(taskArchiveRepository.count()).isZero();
+    }
+
+    private Task task(Task parent) {
+        return TestFixtures.subtask(team, parent).build();
+    }
+}
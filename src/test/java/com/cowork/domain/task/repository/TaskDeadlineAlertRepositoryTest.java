@@ -0,0 +1,121 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskDeadlineAlert;
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.support.MySqlModeDataJpaTest;
+import com.cowork.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlModeDataJpaTest
+class TaskDeadlineAlertRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDeadlineAlertRepository alertRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Team team;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        team = em.persist(TestFixtures.team());
+        worker = em.persist(TestFixtures.user("worker"));
+    }
+
+    @Test
+    void scansOnlyTheWatermarkWindowInKeysetOrder() {
+        Task before = em.persist(task(BASE.minusHours(1), TaskStatus.TODO));
+        Task first = em.persist(task(BASE.plusHours(1), TaskStatus.TODO));
+        Task second = em.persist(task(BASE.plusHours(1), TaskStatus.IN_PROGRESS));
+        em.persist(task(BASE.plusHours(2), TaskStatus.DONE));
+        Task third = em.persist(task(BASE.plusHours(3), TaskStatus.TODO));
+        em.persist(task(BASE.plusHours(5), TaskStatus.TODO));
+        em.flush();
+
+        LocalDateTime to = BASE.plusHours(4);
+        List<TaskDeadlineView> page1 = taskRepository.findDeadlinesBetween(BASE, Long.MAX_VALUE, to, Limit.of(2));
+        TaskDeadlineView last = page1.get(1);
+        List<TaskDeadlineView> page2 = taskRepository.findDeadlinesBetween(
+                last.getDeadline(), last.getId(), to, Limit.of(2));
+
+        assertThat(page1).extracting(TaskDeadlineView::getId).containsExactly(first.getId(), second.getId());
+        assertThat(page2).extracting(TaskDeadlineView::getId).containsExactly(third.getId());
+        assertThat(page1).extracting(TaskDeadlineView::getId).doesNotContain(before.getId());
+    }
+
+    @Test
+    void upsertMovesAlertBetweenStates() {
+        Task task = em.persist(task(BASE, TaskStatus.TODO));
+        em.flush();
+
+        alertRepository.upsert(task.getId(), worker.getId(), team.getId(), TaskDeadlineState.DUE_SOON.name(), BASE);
+        alertRepository.upsert(task.getId(), worker.getId(), team.getId(), TaskDeadlineState.OVERDUE.name(), BASE);
+        em.clear();
+
+        List<TaskDeadlineAlert> overdue = alertRepository.findUserAlertsFirstPage(
+                worker.getId(), TaskDeadlineState.OVERDUE, Limit.of(10));
+        assertThat(overdue).extracting(TaskDeadlineAlert::getTaskId).containsExactly(task.getId());
+        assertThat(overdue.get(0).getTask().getTeam().getName()).isEqualTo("team");
+        assertThat(alertRepository.findUserAlertsFirstPage(worker.getId(), TaskDeadlineState.DUE_SOON, Limit.of(10)))
+                .isEmpty();
+
+        alertRepository.deleteByTaskId(task.getId());
+        assertThat(alertRepository.count()).isZero();
+    }
+
+    @Test
+    void scannerUpsertSkipsTasksChangedSinceTheScan() {
+        Task done = em.persist(task(BASE, TaskStatus.TODO));
+        Task deleted = em.persist(task(BASE, TaskStatus.TODO));
+        Task moved = em.persist(task(BASE, TaskStatus.TODO));
+        Task open = em.persist(task(BASE, TaskStatus.TODO));
+        em.flush();
+        List<TaskDeadlineView> scanned = taskRepository.findDeadlinesBetween(
+                BASE.minusHours(1), Long.MAX_VALUE, BASE.plusHours(1), Limit.of(10));
+        assertThat(scanned).hasSize(4);
+
+        // 스캔 이후 커밋된 변경
+        done.updateTask(null, null, TaskStatus.DONE, null, null);
+        deleted.softDelete();
+        moved.updateTask(null, null, null, null, BASE.plusDays(3));
+        em.flush();
+
+        for (TaskDeadlineView row : scanned) {
+            alertRepository.upsertIfStillDue(row.getId(), row.getWorkerId(), row.getTeamId(),
+                    TaskDeadlineState.OVERDUE.name(), row.getDeadline());
+        }
+        em.clear();
+
+        assertThat(alertRepository.findUserAlertsFirstPage(worker.getId(), TaskDeadlineState.OVERDUE, Limit.of(10)))
+                .extracting(TaskDeadlineAlert::getTaskId)
+                .containsExactly(open.getId());
+    }
+
+    private Task task(LocalDateTime deadline, TaskStatus status) {
+        return TestFixtures.task(team)
+                .worker(worker)
+                .status(status)
+                .deadline(deadline)
+                .build();
+    }
+}
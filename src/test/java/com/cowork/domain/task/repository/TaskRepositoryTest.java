@@ -0,0 +1,147 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepositoryTest {
+
+    private static final int TASK_COUNT = 30;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Team team;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        team = em.persist(Team.builder().name("team").build());
+        Task parent = em.persist(task(null, null));
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            // 워커마다 다른 User 를 사용해야 지연 로딩 쿼리가 워커 수만큼 발생합니다.
+            User user = em.persist(User.builder()
+                    .loginId("user" + i)
+                    .password("pw")
+                    .nickname("nick" + i)
+                    .role(UserRole.USER)
+                    .build());
+            em.persist(task(user, parent));
+            worker = user;
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void teamTaskPageIsLoadedWithSingleStatement() {
+        Statistics statistics = statistics();
+
+        List<TaskResponse> responses = taskRepository
+                .findTeamTasksFirstPage(team.getId(), Limit.of(TASK_COUNT + 1))
+                .stream()
+                .map(TaskResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(TASK_COUNT + 1);
+        assertThat(responses).allSatisfy(r -> assertThat(r.getTeamName()).isEqualTo("team"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void myTasksAreLoadedWithSingleStatement() {
+        Statistics statistics = statistics();
+
+        List<TaskResponse> responses = taskRepository.findMyTasks(worker.getId())
+                .stream()
+                .map(TaskResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getWorkerNickname()).isEqualTo(worker.getNickname());
+        assertThat(responses.get(0).getParentId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subtreeIsLoadedByPathPrefixAndFollowsMove() {
+        // a ─ b ─ c,   d
+        Task a = em.persist(node(null));
+        Task b = em.persist(node(a));
+        Task c = em.persist(node(b));
+        Task d = em.persist(node(null));
+        em.flush();
+        em.clear();
+
+        assertThat(taskRepository.findSubtree(a.subtreePath(), a.getDepth() + 10))
+                .extracting(Task::getId)
+                .containsExactly(b.getId(), c.getId());
+
+        // b 를 d 아래로 이동
+        taskRepository.updatePath(b.getId(), d.subtreePath(), d.getDepth() + 1);
+        taskRepository.movePaths(b.subtreePath(), d.subtreePath() + b.getId() + "/", 0);
+        em.clear();
+
+        assertThat(taskRepository.findSubtree(a.subtreePath(), a.getDepth() + 10)).isEmpty();
+        assertThat(taskRepository.findSubtree(d.subtreePath(), d.getDepth() + 10))
+                .extracting(Task::getId)
+                .containsExactly(b.getId(), c.getId());
+        assertThat(taskRepository.findSubtree(d.subtreePath(), d.getDepth() + 1))
+                .extracting(Task::getId)
+                .containsExactly(b.getId());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Task node(Task parent) {
+        return Task.builder()
+                .team(team)
+                .parent(parent)
+                .path(Task.childPathOf(parent))
+                .depth(Task.childDepthOf(parent))
+                .title("node")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build();
+    }
+
+    private Task task(User worker, Task parent) {
+        return Task.builder()
+                .team(team)
+                .worker(worker)
+                .parent(parent)
+                .title("title")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build();
+    }
+}
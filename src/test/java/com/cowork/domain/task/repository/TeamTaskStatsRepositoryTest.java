@@ -0,0 +1,86 @@
+package com.cowork.domain.task.repository;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.entity.TeamTaskStats;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.support.MySqlModeDataJpaTest;
+import com.cowork.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlModeDataJpaTest
+class TeamTaskStatsRepositoryTest {
+
+    @Autowired
+    private TeamTaskStatsRepository teamTaskStatsRepository;
+
+    @Autowired
+    private TeamTaskDeadlineStatsRepository teamTaskDeadlineStatsRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void countersAreUpsertedAndIncremented() {
+        Team team = em.persist(TestFixtures.team());
+        em.persist(task(team, TaskStatus.TODO, TaskPriority.HIGH, LocalDate.now().minusDays(1)));
+        em.persist(task(team, TaskStatus.DONE, TaskPriority.LOW, LocalDate.now().minusDays(1)));
+        em.persist(task(team, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, LocalDate.now().plusDays(3)));
+        em.flush();
+
+        TaskStatsView counts = taskRepository.countStatsByTeamId(team.getId());
+        teamTaskStatsRepository.upsert(team.getId(),
+                counts.getTotal(), counts.getTodo(), counts.getInProgress(), counts.getDone(),
+                counts.getLow(), counts.getMedium(), counts.getHigh(), counts.getUnassigned());
+        teamTaskDeadlineStatsRepository.rebuild(team.getId());
+
+        assertThat(teamTaskStatsRepository.applyDelta(team.getId(), 1, 1, 0, 0, 0, 1, 0, 1)).isEqualTo(1);
+        teamTaskDeadlineStatsRepository.applyDelta(team.getId(), LocalDate.now().minusDays(1), 1);
+        em.clear();
+
+        TeamTaskStats stats = teamTaskStatsRepository.findById(team.getId()).orElseThrow();
+        assertThat(stats.getTotalCount()).isEqualTo(4);
+        assertThat(stats.countOf(TaskStatus.TODO)).isEqualTo(2);
+        assertThat(stats.countOf(TaskPriority.HIGH)).isEqualTo(2);
+        assertThat(stats.getUnassignedCount()).isEqualTo(4);
+        // upsert 와 증감마다 변경 번호가 올라감
+        assertThat(stats.getChangeStamp()).isEqualTo(2);
+        assertThat(teamTaskStatsRepository.findChangeStamp(team.getId())).contains(2L);
+        // 완료된 업무는 지연 집계에서 제외
+        assertThat(teamTaskDeadlineStatsRepository.sumOverdue(team.getId(), LocalDate.now())).isEqualTo(2);
+    }
+
+    @Test
+    void insertIfAbsentCreatesZeroRowAndKeepsExistingCounters() {
+        Team team = em.persist(TestFixtures.team());
+
+        teamTaskStatsRepository.insertIfAbsent(team.getId());
+        assertThat(teamTaskStatsRepository.findChangeStamp(team.getId())).contains(0L);
+
+        teamTaskStatsRepository.upsert(team.getId(), 3, 3, 0, 0, 0, 3, 0, 3);
+        teamTaskStatsRepository.insertIfAbsent(team.getId());
+        em.clear();
+
+        TeamTaskStats stats = teamTaskStatsRepository.findById(team.getId()).orElseThrow();
+        assertThat(stats.getTotalCount()).isEqualTo(3);
+        assertThat(stats.getChangeStamp()).isEqualTo(1);
+    }
+
+    private Task task(Team team, TaskStatus status, TaskPriority priority, LocalDate deadline) {
+        return TestFixtures.task(team)
+                .status(status)
+                .priority(priority)
+                .deadline(deadline.atTime(23, 59, 59))
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskActivityResponse;
+import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskUpdateRequest;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskActivityType;
+import com.cowork.domain.task.entity.TaskField;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.global.response.CursorPageResponse;
+import com.cowork.support.TeamMemberIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업무 활동 기록의 비동기 저장과 조회.
+ * 기록은 커밋 이후 별도 스레드가 저장하므로 테스트 트랜잭션 없이 H2(MySQL 모드)에서 실행합니다.
+ */
+@TestPropertySource(properties = "cowork.task.activity.flush-interval=50ms")
+class TaskActivityLogTest extends TeamMemberIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskActivityService taskActivityService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void recordsCommittedChangesNewestFirst() throws InterruptedException {
+        TaskResponse created = createTask();
+        Long taskId = created.getId();
+        taskService.updateTask(loginId, taskId, TaskUpdateRequest.builder()
+                .title("renamed")
+                .status(TaskStatus.DONE)
+                .version(created.getVersion())
+                .build(), null);
+        taskService.deleteTask(loginId, taskId);
+
+        awaitActivities(taskId, 4);
+
+        CursorPageResponse<TaskActivityResponse> first = taskActivityService.getActivity(loginId, taskId, null, 2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getContent()).extracting(TaskActivityResponse::getType)
+                .containsExactly(TaskActivityType.DELETED, TaskActivityType.UPDATED);
+        assertThat(first.getContent().get(0).getActorLoginId()).isEqualTo(loginId);
+
+        CursorPageResponse<TaskActivityResponse> second =
+                taskActivityService.getActivity(loginId, taskId, first.getNextCursor(), 2);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getContent()).extracting(TaskActivityResponse::getType)
+                .containsExactly(TaskActivityType.UPDATED, TaskActivityType.CREATED);
+
+        // 한 번의 수정에서 바뀐 필드들은 같은 version 으로 기록됩니다.
+        TaskActivityResponse title = second.getContent().get(0);
+        TaskActivityResponse status = first.getContent().get(1);
+        assertThat(title.getField()).isEqualTo(TaskField.TITLE);
+        assertThat(title.getOldValue()).isEqualTo("task");
+        assertThat(title.getNewValue()).isEqualTo("renamed");
+        assertThat(status.getField()).isEqualTo(TaskField.STATUS);
+        assertThat(status.getNewValue()).isEqualTo(TaskStatus.DONE.name());
+        assertThat(status.getVersion()).isEqualTo(title.getVersion()).isEqualTo(created.getVersion() + 1);
+    }
+
+    @Test
+    void rolledBackChangesAreNotRecorded() {
+        Long taskId = createTask().getId();
+        TaskActivityLog activityLog = standaloneLog(new SimpleMeterRegistry(), 16);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            task.updateTask("rolled-back", null, null, null, null);
+            activityLog.recordChanges(task, null);
+            tx.setRollbackOnly();
+        });
+        activityLog.stop();
+
+        assertThat(countUpdates(taskId)).isZero();
+    }
+
+    @Test
+    void stopWritesBufferedEntriesAndDropsOverflow() {
+        Long taskId = createTask().getId();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaskActivityLog activityLog = standaloneLog(meterRegistry, 2);
+
+        // 트랜잭션 밖에서는 즉시 버퍼에 들어갑니다. 세 번째 변경은 버퍼가 가득 차 버려집니다.
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        task.updateTask("a", "b", TaskStatus.DONE, null, null);
+        activityLog.recordChanges(task, null);
+        assertThat(countUpdates(taskId)).isZero();
+
+        activityLog.stop();
+
+        assertThat(countUpdates(taskId)).isEqualTo(2);
+        assertThat(meterRegistry.counter("cowork.task.activity.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cowork.task.activity.written").count()).isEqualTo(2);
+    }
+
+    @Test
+    void failedBatchIsRetriedUntilWritten() throws InterruptedException {
+        Long taskId = createTask().getId();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaskActivityLog activityLog = new TaskActivityLog(jdbcTemplate, meterRegistry, 16, 500, Duration.ofMillis(10));
+        activityLog.start();
+
+        jdbcTemplate.execute("alter table task_activities rename to task_activities_offline");
+        try {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            task.updateTask("a", "b", null, null, null);
+            activityLog.recordChanges(task, null);
+            Thread.sleep(500);
+            assertThat(meterRegistry.counter("cowork.task.activity.write.failures").count()).isGreaterThan(1);
+        } finally {
+            jdbcTemplate.execute("alter table task_activities_offline rename to task_activities");
+        }
+
+        awaitActivities(taskId, 3);
+        activityLog.stop();
+        assertThat(countUpdates(taskId)).isEqualTo(2);
+        assertThat(meterRegistry.counter("cowork.task.activity.dropped").count()).isZero();
+    }
+
+    private TaskResponse createTask() {
+        return taskService.createTask(loginId, teamId, TaskCreateRequest.builder().title("task").build());
+    }
+
+    // 시작하지 않은 인스턴스: stop() 이 호출 스레드에서 버퍼를 비웁니다.
+    private TaskActivityLog standaloneLog(SimpleMeterRegistry meterRegistry, int bufferSize) {
+        return new TaskActivityLog(jdbcTemplate, meterRegistry, bufferSize, 500, Duration.ofHours(1));
+    }
+
+    private long countUpdates(Long taskId) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from task_activities where task_id = ? and type = 'UPDATED'", Long.class, taskId);
+    }
+
+    private void awaitActivities(Long taskId, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Long count = jdbcTemplate.queryForObject(
+                    "select count(*) from task_activities where task_id = ?", Long.class, taskId);
+            if (count != null && count >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Expected " + expected + " activities for task " + taskId);
+    }
+}
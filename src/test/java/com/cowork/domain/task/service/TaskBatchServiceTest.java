@@ -0,0 +1,142 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskBatchCreateRequest;
+import com.cowork.domain.task.dto.TaskBatchItemResult;
+import com.cowork.domain.task.dto.TaskBatchResponse;
+import com.cowork.domain.task.dto.TaskBatchUpdateItem;
+import com.cowork.domain.task.dto.TaskBatchUpdateRequest;
+import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskUpdateRequest;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.support.TeamMemberIntegrationTest;
+import com.cowork.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업무 일괄 생성/수정: 항목별 실패가 나머지 항목을 막지 않고, INSERT 는 JDBC 배치로 묶여 전송되는지 확인합니다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskBatchServiceTest extends TeamMemberIntegrationTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createTasksReportsFailuresPerItem() {
+        String outsider = userRepository.save(TestFixtures.user("outsider-" + System.nanoTime())).getLoginId();
+
+        TaskBatchResponse response = taskBatchService.createTasks(loginId, teamId, createRequest(
+                TaskCreateRequest.builder().title("first").workerLoginId(loginId).build(),
+                TaskCreateRequest.builder().title(" ").build(),
+                TaskCreateRequest.builder().title("unknown worker").workerLoginId("nobody-" + System.nanoTime()).build(),
+                TaskCreateRequest.builder().title("outsider").workerLoginId(outsider).build(),
+                TaskCreateRequest.builder().title("missing parent").parentId(Long.MAX_VALUE).build(),
+                TaskCreateRequest.builder().title("last").build()));
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getResults()).extracting(TaskBatchItemResult::getCode).containsExactly(
+                null,
+                ErrorCode.INVALID_INPUT_VALUE.getCode(),
+                ErrorCode.USER_NOT_FOUND.getCode(),
+                ErrorCode.WORKER_NOT_TEAM_MEMBER.getCode(),
+                ErrorCode.TASK_NOT_FOUND.getCode(),
+                null);
+
+        TaskResponse first = response.getResults().get(0).getTask();
+        assertThat(first.getWorkerLoginId()).isEqualTo(loginId);
+        assertThat(taskRepository.findById(first.getId())).isPresent();
+        assertThat(taskRepository.findById(response.getResults().get(5).getTask().getId())).isPresent();
+    }
+
+    @Test
+    void createdTasksAreInsertedInJdbcBatches() {
+        TaskCreateRequest[] items = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> TaskCreateRequest.builder().title("task" + i).build())
+                .toArray(TaskCreateRequest[]::new);
+        // 멤버십 캐시를 미리 채워 측정 구간에는 일괄 생성 자체의 SQL 만 남깁니다.
+        taskBatchService.createTasks(loginId, teamId, createRequest(items[0]));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TaskBatchResponse response = taskBatchService.createTasks(loginId, teamId, createRequest(items));
+
+        assertThat(response.getSucceeded()).isEqualTo(BATCH_SIZE);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BATCH_SIZE);
+        // 행마다 INSERT 를 준비했다면 BATCH_SIZE 이상이어야 합니다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(BATCH_SIZE / 4);
+    }
+
+    @Test
+    void updateTasksRejectsDuplicatesStaleVersionsAndMissingTasks() {
+        TaskResponse kept = createTask("kept");
+        TaskResponse stale = createTask("stale");
+        taskService.updateTask(loginId, stale.getId(),
+                TaskUpdateRequest.builder().title("changed elsewhere").version(stale.getVersion()).build(), null);
+
+        TaskBatchResponse response = taskBatchService.updateTasks(loginId, teamId, updateRequest(
+                updateItem(kept.getId(), "renamed", kept.getVersion()),
+                updateItem(kept.getId(), "again", kept.getVersion()),
+                updateItem(stale.getId(), "overwrite", stale.getVersion()),
+                updateItem(Long.MAX_VALUE, "missing", 0L)));
+
+        assertThat(response.getResults()).extracting(TaskBatchItemResult::getCode).containsExactly(
+                null,
+                ErrorCode.INVALID_INPUT_VALUE.getCode(),
+                ErrorCode.TASK_VERSION_CONFLICT.getCode(),
+                ErrorCode.TASK_NOT_FOUND.getCode());
+        assertThat(response.getResults().get(0).getTask().getVersion()).isEqualTo(kept.getVersion() + 1);
+        assertThat(taskService.getTask(loginId, kept.getId()).getTitle()).isEqualTo("renamed");
+        assertThat(taskService.getTask(loginId, stale.getId()).getTitle()).isEqualTo("changed elsewhere");
+    }
+
+    private TaskResponse createTask(String title) {
+        return taskService.createTask(loginId, teamId, TaskCreateRequest.builder().title(title).build());
+    }
+
+    // 요청 DTO 는 JSON 바인딩 전용(세터 없음)이므로 필드를 직접 채웁니다.
+    private static TaskBatchCreateRequest createRequest(TaskCreateRequest... items) {
+        TaskBatchCreateRequest request = new TaskBatchCreateRequest();
+        ReflectionTestUtils.setField(request, "tasks", Arrays.asList(items));
+        return request;
+    }
+
+    private static TaskBatchUpdateRequest updateRequest(TaskBatchUpdateItem... items) {
+        TaskBatchUpdateRequest request = new TaskBatchUpdateRequest();
+        ReflectionTestUtils.setField(request, "tasks", List.of(items));
+        return request;
+    }
+
+    private static TaskBatchUpdateItem updateItem(Long taskId, String title, Long version) {
+        TaskBatchUpdateItem item = new TaskBatchUpdateItem();
+        ReflectionTestUtils.setField(item, "taskId", taskId);
+        ReflectionTestUtils.setField(item, "title", title);
+        ReflectionTestUtils.setField(item, "version", version);
+        return item;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskExportFormat;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.support.TeamMemberIntegrationTest;
+import com.cowork.support.TestFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 팀 업무 내보내기: 스트리밍 중 영속성 컨텍스트를 비워도(500행마다) 모든 행이 생성 순서대로 나가고,
+ * 삭제된 업무는 빠지며, CSV 값은 RFC 4180 규칙으로 이스케이프되는지 확인합니다.
+ */
+class TaskExportServiceTest extends TeamMemberIntegrationTest {
+
+    private static final int ROW_COUNT = 1_200;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ndjsonContainsEveryLiveTaskInCreationOrder() throws IOException {
+        Team team = teamRepository.findById(teamId).orElseThrow();
+        List<Task> tasks = IntStream.range(0, ROW_COUNT)
+                .mapToObj(i -> TestFixtures.task(team).title("task" + i).build())
+                .toList();
+        taskRepository.saveAll(tasks);
+        Task deleted = taskRepository.save(TestFixtures.task(team).title("deleted").build());
+        deleted.softDelete();
+        taskRepository.save(deleted);
+
+        String body = export(TaskExportFormat.NDJSON);
+
+        List<String> titles = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            titles.add(node.get("title").asText());
+        }
+        assertThat(titles).hasSize(ROW_COUNT)
+                .startsWith("task0", "task1")
+                .endsWith("task" + (ROW_COUNT - 1))
+                .doesNotContain("deleted");
+    }
+
+    @Test
+    void csvEscapesDelimitersQuotesAndNewlines() {
+        Team team = teamRepository.findById(teamId).orElseThrow();
+        taskRepository.save(TestFixtures.task(team).title("plain").build());
+        taskRepository.save(TestFixtures.task(team).title("a, b").content("say \"hi\"\nbye").build());
+
+        String body = export(TaskExportFormat.CSV);
+
+        String[] rows = body.split("\r\n");
+        assertThat(rows).hasSize(3);
+        assertThat(rows[0]).startsWith("id,parentId,title,content,status");
+        assertThat(rows[1]).contains(",plain,,TODO,");
+        assertThat(rows[2]).contains(",\"a, b\",\"say \"\"hi\"\"\nbye\",TODO,");
+    }
+
+    @Test
+    void nonMemberIsRejectedBeforeStreaming() {
+        String outsider = userRepository.save(TestFixtures.user("outsider-" + System.nanoTime())).getLoginId();
+
+        assertThatThrownBy(() -> taskExportService.export(outsider, teamId, TaskExportFormat.CSV))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_TEAM_MEMBER);
+    }
+
+    private String export(TaskExportFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            taskExportService.export(loginId, teamId, format).writeTo(out);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
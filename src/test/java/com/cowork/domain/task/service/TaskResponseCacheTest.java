@@ -0,0 +1,77 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskChangeEvent;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.global.response.CursorPageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskResponseCacheTest {
+
+    private final TaskResponseCache cache = new TaskResponseCache(
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+
+    @Test
+    void taskBytesAreReusedUntilETagChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<TaskResponse> v1 = counting(loads, task(1L));
+
+        TaskResponseCache.CachedJson first = cache.getTask(10L, TaskETags.forTask(10L, 1L, 0L), v1);
+        TaskResponseCache.CachedJson second = cache.getTask(10L, TaskETags.forTask(10L, 1L, 0L), v1);
+
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("\"success\":true", "\"version\":1");
+        assertThat(loads).hasValue(1);
+
+        TaskResponseCache.CachedJson updated = cache.getTask(10L, TaskETags.forTask(10L, 2L, 0L),
+                counting(loads, task(2L)));
+        assertThat(updated.eTag()).isEqualTo(TaskETags.forTask(10L, 2L, 0L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void teamPagesAreEvictedOnTaskChange() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<CursorPageResponse<TaskResponse>> page = () -> {
+            loads.incrementAndGet();
+            return CursorPageResponse.of(List.of(task(1L)), 50, r -> r, r -> null);
+        };
+        String eTag = TaskETags.forTeamTasks(7L, 3, null, 50);
+
+        cache.getTeamTasks(7L, null, null, eTag, page);
+        cache.getTeamTasks(7L, "", null, eTag, page);
+        assertThat(loads).hasValue(1);
+
+        cache.onTaskChanged(TaskChangeEvent.deleted(7L, 10L));
+        cache.getTeamTasks(7L, null, null, eTag, page);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Supplier<TaskResponse> counting(AtomicInteger loads, TaskResponse response) {
+        return () -> {
+            loads.incrementAndGet();
+            return response;
+        };
+    }
+
+    private static TaskResponse task(Long version) {
+        return TaskResponse.builder()
+                .id(10L)
+                .teamId(7L)
+                .title("title")
+                .status(TaskStatus.TODO)
+                .version(version)
+                .commentCount(0L)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.support.TeamMemberIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키워드 검색의 offset 제한. 전문 검색 쿼리는 MySQL 에서만 실행되므로 쿼리 전에 거부되는 요청만 확인합니다.
+ */
+class TaskSearchServiceTest extends TeamMemberIntegrationTest {
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Test
+    void pageWhoseOffsetOverflowsIsRejected() {
+        // 2^26 * 64 = 2^32 은 int 곱셈에서 0 이 됩니다.
+        int page = 1 << 26;
+
+        assertThatThrownBy(() -> taskSearchService.search(loginId, teamId, "keyword", page, 64))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> taskSearchService.search(loginId, teamId, "keyword", Integer.MAX_VALUE, 64))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
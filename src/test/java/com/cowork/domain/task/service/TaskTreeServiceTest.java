@@ -0,0 +1,89 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskMoveRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.support.TeamMemberIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업무 이동: 서로의 아래로 옮기는 동시 요청이 순환 경로를 만들지 않는지 확인합니다.
+ * 행 잠금과 커밋이 실제로 일어나야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+class TaskTreeServiceTest extends TeamMemberIntegrationTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private TaskTreeService taskTreeService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void concurrentOppositeMovesCannotCreateCycle() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long a = createTask("a" + round).getId();
+                Long b = createTask("b" + round).getId();
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> moves = List.of(
+                        executor.submit(() -> move(start, a, b)),
+                        executor.submit(() -> move(start, b, a)));
+                start.countDown();
+
+                int succeeded = 0;
+                for (Future<Boolean> move : moves) {
+                    if (move.get(30, TimeUnit.SECONDS)) {
+                        succeeded++;
+                    }
+                }
+                assertThat(succeeded).isEqualTo(1);
+
+                Task first = taskRepository.findById(a).orElseThrow();
+                Task second = taskRepository.findById(b).orElseThrow();
+                assertThat(first.getPath().startsWith(second.subtreePath())
+                        ^ second.getPath().startsWith(first.subtreePath())).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean move(CountDownLatch start, Long taskId, Long parentId) throws InterruptedException {
+        TaskMoveRequest request = new TaskMoveRequest();
+        ReflectionTestUtils.setField(request, "parentId", parentId);
+        start.await();
+        try {
+            taskTreeService.moveTask(loginId, taskId, request);
+            return true;
+        } catch (CustomException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_PARENT_TASK);
+            return false;
+        }
+    }
+
+    private TaskResponse createTask(String title) {
+        return taskService.createTask(loginId, teamId, TaskCreateRequest.builder().title(title).build());
+    }
+}
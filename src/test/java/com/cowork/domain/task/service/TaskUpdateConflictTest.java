@@ -0,0 +1,133 @@
+package com.cowork.domain.task.service;
+
+import com.cowork.domain.task.dto.TaskCreateRequest;
+import com.cowork.domain.task.dto.TaskResponse;
+import com.cowork.domain.task.dto.TaskUpdateRequest;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import com.cowork.support.TeamMemberIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오래된 version 으로 들어온 수정 요청의 필드 단위 병합.
+ * 동시 수정 시 행 잠금과 커밋이 실제로 일어나야 하므로 테스트 트랜잭션 없이 H2(MySQL 모드)에서 실행합니다.
+ */
+@TestPropertySource(properties = "cowork.task.conflict.mode=FIELD_MERGE")
+class TaskUpdateConflictTest extends TeamMemberIntegrationTest {
+
+    private static final int WRITERS_PER_FIELD = 10;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void staleUpdatesOfDifferentFieldsAreMerged() {
+        TaskResponse created = createTask();
+
+        TaskResponse statusChanged = taskService.updateTask(loginId, created.getId(),
+                TaskUpdateRequest.builder().status(TaskStatus.DONE).version(created.getVersion()).build(), null);
+        TaskResponse merged = taskService.updateTask(loginId, created.getId(),
+                TaskUpdateRequest.builder().deadline(LocalDate.of(2030, 1, 1)).version(created.getVersion()).build(), null);
+
+        assertThat(merged.getVersion()).isEqualTo(statusChanged.getVersion() + 1);
+        assertThat(merged.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(merged.getDeadline().toLocalDate()).isEqualTo(LocalDate.of(2030, 1, 1));
+    }
+
+    @Test
+    void staleUpdateOfSameFieldConflicts() {
+        TaskResponse created = createTask();
+
+        taskService.updateTask(loginId, created.getId(),
+                TaskUpdateRequest.builder().title("first").version(created.getVersion()).build(), null);
+
+        assertThatThrownBy(() -> taskService.updateTask(loginId, created.getId(),
+                TaskUpdateRequest.builder().title("second").version(created.getVersion()).build(), null))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TASK_VERSION_CONFLICT);
+
+        // 이미 같은 값으로 바뀐 필드는 충돌이 아닙니다.
+        TaskResponse same = taskService.updateTask(loginId, created.getId(),
+                TaskUpdateRequest.builder().title("first").version(created.getVersion()).build(), null);
+        assertThat(same.getTitle()).isEqualTo("first");
+    }
+
+    @Test
+    void concurrentWritersFromSameVersionConflictOnlyPerField() throws Exception {
+        TaskResponse created = createTask();
+        Long taskId = created.getId();
+        Long baseVersion = created.getVersion();
+
+        // 필드마다 서로 다른 값을 쓰는 writer 들: 필드당 하나만 성공하고 나머지는 같은 필드 충돌이어야 합니다.
+        Map<String, Function<Integer, TaskUpdateRequest>> fields = Map.of(
+                "title", i -> TaskUpdateRequest.builder().title("title-" + i).version(baseVersion).build(),
+                "content", i -> TaskUpdateRequest.builder().content("content-" + i).version(baseVersion).build(),
+                "deadline", i -> TaskUpdateRequest.builder()
+                        .deadline(LocalDate.of(2030, 1, 1).plusDays(i)).version(baseVersion).build());
+
+        Map<String, Integer> winners = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(fields.size() * WRITERS_PER_FIELD);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            fields.forEach((field, request) -> {
+                for (int i = 0; i < WRITERS_PER_FIELD; i++) {
+                    int writer = i;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            taskService.updateTask(loginId, taskId, request.apply(writer), null);
+                            assertThat(winners.putIfAbsent(field, writer)).as("second winner for %s", field).isNull();
+                        } catch (CustomException e) {
+                            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TASK_VERSION_CONFLICT);
+                            conflicts.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(winners).containsOnlyKeys(fields.keySet());
+        assertThat(conflicts).hasValue(fields.size() * (WRITERS_PER_FIELD - 1));
+
+        TaskResponse result = taskService.getTask(loginId, taskId);
+        assertThat(result.getVersion()).isEqualTo(baseVersion + fields.size());
+        assertThat(result.getTitle()).isEqualTo("title-" + winners.get("title"));
+        assertThat(result.getContent()).isEqualTo("content-" + winners.get("content"));
+        assertThat(result.getDeadline().toLocalDate())
+                .isEqualTo(LocalDate.of(2030, 1, 1).plusDays(winners.get("deadline")));
+    }
+
+    private TaskResponse createTask() {
+        return taskService.createTask(loginId, teamId, TaskCreateRequest.builder().title("task").build());
+    }
+}
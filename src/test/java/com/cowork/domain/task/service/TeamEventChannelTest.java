@@ -0,0 +1,90 @@
+package com.cowork.domain.task.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamEventChannelTest {
+
+    private static final long INITIAL_ID = 1000;
+
+    @Test
+    void resumesFromLastEventId() {
+        TeamEventChannel channel = new TeamEventChannel(INITIAL_ID, 10);
+        channel.publish("TASK_CREATED", "{}");
+        channel.publish("TASK_UPDATED", "{}");
+        channel.publish("TASK_DELETED", "{}");
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.join(new TaskEventSubscriber(emitter, 16, Runnable::run), INITIAL_ID, "RESYNC", "{}");
+        channel.publish("COMMENT_ADDED", "{}");
+
+        assertThat(emitter.frames).containsExactly(
+                "id:1001\nevent:TASK_UPDATED",
+                "id:1002\nevent:TASK_DELETED",
+                "id:1003\nevent:COMMENT_ADDED");
+    }
+
+    @Test
+    void sendsResyncWhenLastEventIdIsNoLongerBuffered() {
+        TeamEventChannel channel = new TeamEventChannel(INITIAL_ID, 2);
+        for (int i = 0; i < 5; i++) {
+            channel.publish("TASK_UPDATED", "{}");
+        }
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.join(new TaskEventSubscriber(emitter, 16, Runnable::run), INITIAL_ID, "RESYNC", "{}");
+
+        assertThat(emitter.frames).containsExactly("id:1004\nevent:RESYNC");
+    }
+
+    @Test
+    void closesSubscriberThatFallsBehind() {
+        TeamEventChannel channel = new TeamEventChannel(INITIAL_ID, 0);
+        Executor stalled = command -> {
+        };
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(new RecordingEmitter(), 2, stalled);
+        channel.join(subscriber, null, "RESYNC", "{}");
+
+        channel.publish("TASK_UPDATED", "{}");
+        channel.publish("TASK_UPDATED", "{}");
+        assertThat(subscriber.isClosed()).isFalse();
+
+        channel.publish("TASK_UPDATED", "{}");
+        assertThat(subscriber.isClosed()).isTrue();
+    }
+
+    @Test
+    void isEmptyOnceLastSubscriberLeaves() {
+        TeamEventChannel channel = new TeamEventChannel(INITIAL_ID, 2);
+        TaskEventSubscriber first = new TaskEventSubscriber(new RecordingEmitter(), 16, Runnable::run);
+        TaskEventSubscriber second = new TaskEventSubscriber(new RecordingEmitter(), 16, Runnable::run);
+        channel.join(first, null, "RESYNC", "{}");
+        channel.join(second, null, "RESYNC", "{}");
+
+        channel.leave(first);
+        assertThat(channel.isEmpty()).isFalse();
+
+        channel.leave(second);
+        assertThat(channel.isEmpty()).isTrue();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            // "id:..\nevent:..\ndata:" 의 헤더 부분만 기록
+            String text = items.iterator().next().getData().toString();
+            frames.add(text.substring(0, text.indexOf("\ndata:")));
+        }
+    }
+}
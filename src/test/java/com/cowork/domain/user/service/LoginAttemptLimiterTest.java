@@ -0,0 +1,69 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    @Test
+    void concurrentAttemptsCannotExceedTheLimit() throws Exception {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(5, 100, Duration.ofMinutes(5));
+        int attempts = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    try {
+                        limiter.admit("victim", "10.0.0.1");
+                        return true;
+                    } catch (CustomException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    admitted++;
+                }
+            }
+            assertThat(admitted).isEqualTo(5);
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    void successResetsLoginIdAndReleasesIpAttempt() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(2, 2, Duration.ofMinutes(5));
+
+        limiter.admit("user", "10.0.0.1");
+        limiter.admit("user", "10.0.0.1");
+        limiter.recordSuccess("user", "10.0.0.1");
+
+        // IP 에는 실패 한 번만 남아 있으므로 한 번 더 허용
+        assertThatNoException().isThrownBy(() -> limiter.admit("user", "10.0.0.1"));
+        assertThatThrownBy(() -> limiter.admit("other", "10.0.0.1"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
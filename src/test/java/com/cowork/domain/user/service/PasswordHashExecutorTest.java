@@ -0,0 +1,71 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashExecutorTest {
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        PasswordHashExecutor hashExecutor = new PasswordHashExecutor(
+                blocking, new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> hashExecutor.matches("a", "x"));
+            started.await();
+            callers.submit(() -> hashExecutor.matches("b", "x"));
+            Thread.sleep(100);
+
+            assertThatThrownBy(() -> hashExecutor.matches("c", "x"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.LOGIN_OVERLOADED);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            hashExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void detectsHashesBelowConfiguredCost() {
+        PasswordHashExecutor hashExecutor = new PasswordHashExecutor(
+                new BCryptPasswordEncoder(6), new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+        try {
+            String weak = new BCryptPasswordEncoder(4).encode("secret");
+            String current = hashExecutor.encode("secret");
+
+            assertThat(hashExecutor.needsRehash(weak)).isTrue();
+            assertThat(hashExecutor.needsRehash(current)).isFalse();
+            assertThat(hashExecutor.matches("secret", weak)).isTrue();
+        } finally {
+            hashExecutor.shutdown();
+        }
+    }
+}
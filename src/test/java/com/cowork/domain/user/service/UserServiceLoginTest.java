@@ -0,0 +1,67 @@
+package com.cowork.domain.user.service;
+
+import com.cowork.domain.user.dto.LoginRequest;
+import com.cowork.domain.user.dto.LoginResponse;
+import com.cowork.domain.user.dto.SignupRequest;
+import com.cowork.global.exception.CustomException;
+import com.cowork.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인은 트랜잭션 없이 실행되므로(NOT_SUPPORTED), 사용자 조회가 스스로 트랜잭션을 열어야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("h2mysql")
+class UserServiceLoginTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void signedUpUserCanLogInRepeatedly() {
+        String loginId = signup();
+
+        LoginResponse first = userService.login(login(loginId, PASSWORD), "10.0.0.1");
+        // 두 번째는 2차 캐시(natural id)에서 사용자를 읽습니다.
+        LoginResponse second = userService.login(login(loginId, PASSWORD), "10.0.0.1");
+
+        assertThat(first.getAccessToken()).isNotBlank();
+        assertThat(second.getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void wrongPasswordAndUnknownUserAreRejected() {
+        String loginId = signup();
+
+        assertThatThrownBy(() -> userService.login(login(loginId, "wrong"), "10.0.0.2"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_PASSWORD);
+        assertThatThrownBy(() -> userService.login(login("nobody-" + System.nanoTime(), PASSWORD), "10.0.0.2"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_NOT_FOUND);
+    }
+
+    private String signup() {
+        String loginId = "login-" + System.nanoTime();
+        userService.signup(SignupRequest.builder()
+                .loginId(loginId)
+                .password(PASSWORD)
+                .nickname(loginId)
+                .build());
+        return loginId;
+    }
+
+    private static LoginRequest login(String loginId, String password) {
+        return LoginRequest.builder().loginId(loginId).password(password).build();
+    }
+}
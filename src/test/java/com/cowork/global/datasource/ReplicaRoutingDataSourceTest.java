@@ -0,0 +1,191 @@
+package com.cowork.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 인스턴스를 주 데이터베이스와 복제본으로 사용해 라우팅을 확인합니다.
+ * 각 인스턴스의 node 테이블에는 자기 이름이 들어 있어 어느 쪽에서 읽었는지 알 수 있습니다.
+ * 애플리케이션과 같이 LazyConnectionDataSourceProxy 뒤에서 JpaTransactionManager 로 트랜잭션을 엽니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<EntityManagerFactory> entityManagerFactories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        entityManagerFactories.forEach(EntityManagerFactory::close);
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        Routing routing = routing(ReplicaSelectionPolicy.ROUND_ROBIN, database("primary"), database("replica"));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+        // 트랜잭션 밖의 조회는 주 데이터베이스를 사용합니다.
+        assertThat(routing.jdbcTemplate.queryForObject("select name from node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void roundRobinAlternatesReplicas() {
+        Routing routing = routing(ReplicaSelectionPolicy.ROUND_ROBIN,
+                database("primary"), database("replica-a"), database("replica-b"));
+
+        assertThat(List.of(routing.read(), routing.read(), routing.read(), routing.read()))
+                .containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void leastConnectionsAvoidsBusyReplica() throws Exception {
+        HikariDataSource busy = database("replica-a");
+        Routing routing = routing(ReplicaSelectionPolicy.LEAST_CONNECTIONS, database("primary"), busy, database("replica-b"));
+
+        try (Connection ignored = busy.getConnection()) {
+            assertThat(List.of(routing.read(), routing.read(), routing.read()))
+                    .containsOnly("replica-b");
+        }
+    }
+
+    @Test
+    void readsStickToPrimaryAfterUserCommitsWrite() {
+        Routing routing = routing(ReplicaSelectionPolicy.ROUND_ROBIN, database("primary"), database("replica"));
+
+        authenticate("writer");
+        assertThat(routing.read()).isEqualTo("replica");
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        // 다른 사용자의 읽기는 계속 복제본으로 갑니다.
+        authenticate("reader");
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinUser() {
+        Routing routing = routing(ReplicaSelectionPolicy.ROUND_ROBIN, database("primary"), database("replica"));
+
+        authenticate("writer");
+        routing.transactionTemplate.executeWithoutResult(status -> {
+            routing.entityManager.createNativeQuery("update node set name = name").executeUpdate();
+            status.setRollbackOnly();
+        });
+
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void primaryReadsBypassReplicaWithoutPinningUser() {
+        Routing routing = routing(ReplicaSelectionPolicy.ROUND_ROBIN, database("primary"), database("replica"));
+        PrimaryReads primaryReads = new PrimaryReads(routing.transactionManager, true);
+
+        authenticate("reader");
+        // 읽기 전용 트랜잭션이 이미 복제본 커넥션을 잡고 있어도 새 커넥션으로 주 데이터베이스를 읽습니다.
+        List<String> names = routing.readOnlyTemplate.execute(status -> List.of(
+                routing.node(),
+                primaryReads.call(routing::node),
+                routing.node()));
+        assertThat(names).containsExactly("replica", "primary", "replica");
+        // 트랜잭션 밖에서 호출해도 저장소의 읽기 전용 트랜잭션이 복제본으로 가지 않습니다.
+        assertThat(primaryReads.call(routing::read)).isEqualTo("primary");
+
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    private Routing routing(ReplicaSelectionPolicy policy, DataSource primary, DataSource... replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicas), policy,
+                new ReadYourWritesGuard(Duration.ofMinutes(1), 100), new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // 엔티티 없이 네이티브 쿼리만 사용합니다.
+        factory.setPackagesToScan(getClass().getPackageName());
+        factory.setJpaPropertyMap(Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        factory.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factory.getObject();
+        entityManagerFactories.add(entityManagerFactory);
+        return new Routing(dataSource, entityManagerFactory);
+    }
+
+    private HikariDataSource database(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(loginId, null, List.of()));
+    }
+
+    private static final class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final EntityManager entityManager;
+        private final JpaTransactionManager transactionManager;
+        private final TransactionTemplate transactionTemplate;
+        private final TransactionTemplate readOnlyTemplate;
+
+        private Routing(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            this.transactionManager = new JpaTransactionManager(entityManagerFactory);
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate.setReadOnly(true);
+        }
+
+        String node() {
+            return (String) entityManager.createNativeQuery("select name from node").getSingleResult();
+        }
+
+        String read() {
+            return readOnlyTemplate.execute(status -> node());
+        }
+
+        String write() {
+            return transactionTemplate.execute(status -> {
+                entityManager.createNativeQuery("update node set name = name").executeUpdate();
+                return node();
+            });
+        }
+    }
+}
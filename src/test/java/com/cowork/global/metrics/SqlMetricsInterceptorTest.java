@@ -0,0 +1,35 @@
+package com.cowork.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlMetricsInterceptorTest {
+
+    @Test
+    void asyncRequestIsRecordedOnce() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/teams/1/events");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/teams/{teamId}/events");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        // 비동기 처리가 끝나면 같은 요청이 ASYNC 로 다시 디스패치됩니다.
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(registry.get("cowork.http.sql.statements")
+                .tag("uri", "/api/teams/{teamId}/events")
+                .summary()
+                .count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.cowork.global.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ddl-auto 시절에 만들어진 데이터베이스(V1 과 같은 스키마, Flyway 이력 없음)에 baseline-on-migrate 로 마이그레이션을 적용합니다.
+ * V1 의 시드 행을 건너뛰더라도 이후 버전이 스키마에 맞게 적용되고 id 생성기가 기존 id 뒤에서 시작해야 합니다.
+ */
+class BaselineMigrationTest {
+
+    @Test
+    void baselinedDatabaseGetsTaskIdGeneratorAfterExistingIds() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__baseline.sql")).execute(dataSource);
+        jdbcTemplate.update("delete from id_generator");
+        jdbcTemplate.update("insert into teams (id, name) values (1, 'team')");
+        jdbcTemplate.update("insert into tasks (id, team_id, title, status, priority) values (1234, 1, 'task', 'TODO', 'LOW')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select next_val from id_generator where sequence_name = 'tasks'", Long.class))
+                .isEqualTo(1234 + 51);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from tasks where title_version = 0", Long.class))
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,243 @@
+package com.cowork.global.persistence;
+
+import com.cowork.domain.comment.entity.Comment;
+import com.cowork.domain.comment.repository.CommentRepository;
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskDeadlineState;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.task.repository.TaskActivityRepository;
+import com.cowork.domain.task.repository.TaskArchiveRepository;
+import com.cowork.domain.task.repository.TaskDeadlineAlertRepository;
+import com.cowork.domain.task.repository.TaskRepository;
+import com.cowork.domain.task.repository.TeamTaskDeadlineStatsRepository;
+import com.cowork.domain.task.repository.TeamTaskStatsRepository;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.team.entity.TeamMember;
+import com.cowork.domain.team.entity.TeamRole;
+import com.cowork.domain.team.repository.TeamMemberRepository;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.support.MySqlModeDataJpaTest;
+import com.cowork.support.TestFixtures;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리의 실행 계획 회귀 테스트.
+ * 마이그레이션으로 만든 스키마(H2, MySQL 모드)에서 각 쿼리가 실제로 실행한 SQL 을 EXPLAIN 하여
+ * 첫 번째 테이블이 기대한 인덱스로 접근하는지, 어떤 테이블도 전체 스캔하지 않는지 확인합니다.
+ */
+@MySqlModeDataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.cowork.global.persistence.QueryPlanTest$CapturedStatements")
+class QueryPlanTest {
+
+    // EXPLAIN 결과의 접근 경로 주석: /* public.idx_task_team_created: ... */, /* public.tasks.tableScan */
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* public\\.([\\w.]+)");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamTaskStatsRepository teamTaskStatsRepository;
+
+    @Autowired
+    private TeamTaskDeadlineStatsRepository teamTaskDeadlineStatsRepository;
+
+    @Autowired
+    private TaskDeadlineAlertRepository taskDeadlineAlertRepository;
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Team team;
+    private User user;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        // 통계가 비어 있으면 옵티마이저가 아무 인덱스나 고를 수 있으므로 소량의 데이터를 넣고 ANALYZE 합니다.
+        List<Team> teams = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            teams.add(em.persist(TestFixtures.team()));
+            users.add(em.persist(TestFixtures.user("user" + i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            em.persist(TeamMember.builder().team(teams.get(i)).user(users.get(i)).role(TeamRole.LEADER).build());
+        }
+        for (int i = 0; i < 200; i++) {
+            Task saved = em.persist(TestFixtures.task(teams.get(i % 10))
+                    .worker(users.get(i % 10))
+                    .title("task" + i)
+                    .status(TaskStatus.values()[i % 3])
+                    .deadline(LocalDateTime.now().plusHours(i - 100))
+                    .build());
+            em.persist(Comment.builder().content("c").task(saved).writer(users.get(i % 10)).build());
+        }
+        em.flush();
+        jdbcTemplate.update("insert into task_activities (task_id, team_id, actor_id, type, version, occurred_at) " +
+                "select id, team_id, worker_id, 'CREATED', 0, created_at from tasks");
+        jdbcTemplate.execute("analyze");
+
+        team = teams.get(0);
+        user = users.get(0);
+        task = taskRepository.findAll(Limit.of(1)).get(0);
+        em.clear();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                plan("TaskRepository.findAllByTeamIdAndDeletedAtIsNull", "idx_task_team_created",
+                        () -> taskRepository.findAllByTeamIdAndDeletedAtIsNull(team.getId())),
+                plan("TaskRepository.findTeamTasksFirstPage", "idx_task_team_created",
+                        () -> taskRepository.findTeamTasksFirstPage(team.getId(), Limit.of(50))),
+                plan("TaskRepository.findTeamTasksAfter", "idx_task_team_created",
+                        () -> taskRepository.findTeamTasksAfter(team.getId(), now, Long.MAX_VALUE, Limit.of(50))),
+                plan("TaskRepository.findAllByWorkerIdAndDeletedAtIsNull", "idx_task_worker_created",
+                        () -> taskRepository.findAllByWorkerIdAndDeletedAtIsNull(user.getId())),
+                plan("TaskRepository.findMyTasks", "idx_task_worker_created",
+                        () -> taskRepository.findMyTasks(user.getId())),
+                plan("TaskRepository.findAllByParentIdAndDeletedAtIsNull", "idx_task_parent",
+                        () -> taskRepository.findAllByParentIdAndDeletedAtIsNull(task.getId())),
+                plan("TaskRepository.findByIdAndDeletedAtIsNull", "primary_key",
+                        () -> taskRepository.findByIdAndDeletedAtIsNull(task.getId())),
+                plan("TaskRepository.findByIdForUpdate", "primary_key",
+                        () -> taskRepository.findByIdForUpdate(task.getId())),
+                plan("TaskRepository.findTagById", "primary_key",
+                        () -> taskRepository.findTagById(task.getId())),
+                plan("TaskRepository.findSubtree", "idx_task_path",
+                        () -> taskRepository.findSubtree("/" + task.getId() + "/", 10)),
+                plan("TaskRepository.findDeadlinesBetween", "idx_task_deadline",
+                        () -> taskRepository.findDeadlinesBetween(now, Long.MAX_VALUE, now.plusDays(1), Limit.of(200))),
+                plan("TaskRepository.countStatsByTeamId", "idx_task_team_created",
+                        () -> taskRepository.countStatsByTeamId(team.getId())),
+                plan("CommentRepository.findCommentsFirstPage", "idx_comment_task_created",
+                        () -> commentRepository.findCommentsFirstPage(task.getId(), Limit.of(50))),
+                plan("CommentRepository.findCommentsAfter", "idx_comment_task_created",
+                        () -> commentRepository.findCommentsAfter(task.getId(), now, 0L, Limit.of(50))),
+                plan("TeamMemberRepository.existsByUserAndTeam", "uk_team_member_user_team",
+                        () -> teamMemberRepository.existsByUserAndTeam(user, team)),
+                plan("TeamMemberRepository.existsByUserIdAndTeamId", "uk_team_member_user_team",
+                        () -> teamMemberRepository.existsByUserIdAndTeamId(user.getId(), team.getId())),
+                plan("TeamMemberRepository.findByUser", "uk_team_member_user_team",
+                        () -> teamMemberRepository.findByUser(user)),
+                plan("TeamMemberRepository.findByTeam", "idx_team_member_team",
+                        () -> teamMemberRepository.findByTeam(team)),
+                plan("TeamMemberRepository.findMemberUserIds", "idx_team_member_team",
+                        () -> teamMemberRepository.findMemberUserIds(team.getId(), List.of(user.getId()))),
+                plan("UserRepository.findByLoginId", "uki3xs7wmfu2i3jt079uuetycit",
+                        () -> userRepository.findByLoginId("user0")),
+                plan("UserRepository.existsByNickname", "idx_user_nickname",
+                        () -> userRepository.existsByNickname("user0")),
+                plan("TeamTaskStatsRepository.findChangeStamp", "primary_key",
+                        () -> teamTaskStatsRepository.findChangeStamp(team.getId())),
+                plan("TeamTaskDeadlineStatsRepository.sumOverdue", "primary_key",
+                        () -> teamTaskDeadlineStatsRepository.sumOverdue(team.getId(), LocalDate.now())),
+                plan("TaskDeadlineAlertRepository.findUserAlertsFirstPage", "idx_deadline_alert_user",
+                        () -> taskDeadlineAlertRepository.findUserAlertsFirstPage(
+                                user.getId(), TaskDeadlineState.OVERDUE, Limit.of(50))),
+                plan("TaskArchiveRepository.findArchivableIds", "idx_task_deleted",
+                        () -> taskArchiveRepository.findArchivableIds(now, 200)),
+                plan("TaskActivityRepository.findActivityFirstPage", "idx_task_activity_task",
+                        () -> taskActivityRepository.findActivityFirstPage(task.getId(), Limit.of(50))),
+                plan("TaskActivityRepository.findActivityBefore", "idx_task_activity_task",
+                        () -> taskActivityRepository.findActivityBefore(task.getId(), now, Long.MAX_VALUE, Limit.of(50)))
+        );
+    }
+
+    private DynamicTest plan(String name, String expectedIndex, Runnable query) {
+        return DynamicTest.dynamicTest(name, () -> {
+            CapturedStatements.clear();
+            query.run();
+            List<String> statements = CapturedStatements.drain();
+            assertThat(statements).as("%s executed no SQL", name).isNotEmpty();
+
+            String plan = explain(statements.get(0));
+            List<String> accessPaths = accessPaths(plan);
+            assertThat(accessPaths).as("%s plan:%n%s", name, plan)
+                    .isNotEmpty()
+                    .noneMatch(path -> path.endsWith(".tablescan"));
+            assertThat(accessPaths.get(0)).as("%s plan:%n%s", name, plan).startsWith(expectedIndex);
+        });
+    }
+
+    private String explain(String sql) {
+        // 바인딩하지 않은 파라미터(?)도 H2 EXPLAIN 에서는 그대로 계획을 보여 줍니다.
+        return String.join("\n", jdbcTemplate.query(
+                connection -> connection.prepareStatement("explain " + sql),
+                (rs, rowNum) -> rs.getString(1)));
+    }
+
+    private static List<String> accessPaths(String plan) {
+        List<String> paths = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            paths.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return paths;
+    }
+
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static List<String> drain() {
+            synchronized (STATEMENTS) {
+                List<String> copy = List.copyOf(STATEMENTS);
+                STATEMENTS.clear();
+                return copy;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.cowork.global.persistence;
+
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.team.repository.TeamRepository;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+import com.cowork.domain.user.repository.UserRepository;
+import com.cowork.global.config.HibernateCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 호출마다 새 세션을 사용하도록 테스트 트랜잭션을 끄고, 두 번째 조회부터 SQL 없이 2차 캐시에서 읽는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({HibernateCacheConfig.class, SecondLevelCacheTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Team team;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        team = teamRepository.save(Team.builder().name("team").build());
+        user = userRepository.save(User.builder()
+                .loginId("cached")
+                .password("pw")
+                .nickname("cached")
+                .role(UserRole.USER)
+                .build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        teamRepository.deleteAll();
+    }
+
+    @Test
+    void teamIsReadFromCacheAfterFirstLoad() {
+        assertThat(teamRepository.findById(team.getId())).isPresent();
+        long afterFirstLoad = statistics.getPrepareStatementCount();
+
+        assertThat(teamRepository.findById(team.getId())).get()
+                .extracting(Team::getName).isEqualTo("team");
+
+        assertThat(afterFirstLoad).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstLoad);
+        assertThat(statistics.getDomainDataRegionStatistics(Team.CACHE_REGION).getHitCount()).isPositive();
+    }
+
+    @Test
+    void userIsResolvedByLoginIdWithoutSql() {
+        assertThat(userRepository.findByLoginId("cached")).isPresent();
+        long afterFirstLoad = statistics.getPrepareStatementCount();
+
+        assertThat(userRepository.findByLoginId("cached")).get()
+                .extracting(User::getId).isEqualTo(user.getId());
+        assertThat(userRepository.findById(user.getId())).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstLoad);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void unknownLoginIdIsEmpty() {
+        assertThat(userRepository.findByLoginId("missing")).isEmpty();
+    }
+
+    @Test
+    void passwordUpdateInvalidatesCachedUser() {
+        assertThat(userRepository.findByLoginId("cached")).isPresent();
+
+        assertThat(userRepository.updatePassword(user.getId(), "pw", "rehashed")).isEqualTo(1);
+
+        assertThat(userRepository.findByLoginId("cached")).get()
+                .extracting(User::getPassword).isEqualTo("rehashed");
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
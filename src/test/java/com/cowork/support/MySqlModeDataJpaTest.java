@@ -0,0 +1,28 @@
+package com.cowork.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 내장 데이터베이스 대신 마이그레이션을 적용한 H2(MySQL 모드, h2mysql 프로필)에서 실행하는 {@link DataJpaTest}.
+ * MySQL 전용 문법(upsert, 실행 계획 등)을 사용하는 저장소 테스트에 씁니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2mysql")
+public @interface MySqlModeDataJpaTest {
+
+    @AliasFor(annotation = DataJpaTest.class)
+    String[] properties() default {};
+}
@@ -0,0 +1,44 @@
+package com.cowork.support;
+
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.team.entity.TeamMember;
+import com.cowork.domain.team.entity.TeamRole;
+import com.cowork.domain.team.repository.TeamMemberRepository;
+import com.cowork.domain.team.repository.TeamRepository;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 서비스를 실제 트랜잭션으로 호출하는 통합 테스트의 기반 클래스. 테스트마다 팀 하나와 그 팀의 리더({@link #loginId})를 만듭니다.
+ * 테스트 트랜잭션이 없으므로 커밋 이후 동작(afterCommit, 행 잠금 등)을 검증할 수 있고, 데이터는 커밋된 채로 남습니다.
+ * 추가 설정은 하위 클래스에 {@code @TestPropertySource} 로 지정합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("h2mysql")
+public abstract class TeamMemberIntegrationTest {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TeamRepository teamRepository;
+
+    @Autowired
+    protected TeamMemberRepository teamMemberRepository;
+
+    protected String loginId;
+    protected Long teamId;
+
+    @BeforeEach
+    void setUpTeamMember() {
+        loginId = "member-" + System.nanoTime();
+        User user = userRepository.save(TestFixtures.user(loginId));
+        Team team = teamRepository.save(TestFixtures.team());
+        teamMemberRepository.save(TeamMember.builder().user(user).team(team).role(TeamRole.LEADER).build());
+        teamId = team.getId();
+    }
+}
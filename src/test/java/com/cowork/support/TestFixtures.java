@@ -0,0 +1,52 @@
+package com.cowork.support;
+
+import com.cowork.domain.task.entity.Task;
+import com.cowork.domain.task.entity.TaskPriority;
+import com.cowork.domain.task.entity.TaskStatus;
+import com.cowork.domain.team.entity.Team;
+import com.cowork.domain.user.entity.User;
+import com.cowork.domain.user.entity.UserRole;
+
+/**
+ * 테스트에서 반복되는 엔티티 생성. 저장은 호출하는 쪽에서 합니다.
+ */
+public final class TestFixtures {
+
+    public static final String PASSWORD = "pw";
+
+    private TestFixtures() {
+    }
+
+    public static Team team() {
+        return Team.builder().name("team").build();
+    }
+
+    public static User user(String loginId) {
+        return User.builder()
+                .loginId(loginId)
+                .password(PASSWORD)
+                .nickname(loginId)
+                .role(UserRole.USER)
+                .build();
+    }
+
+    /**
+     * 최상위 TODO 업무. 필요한 값은 반환된 빌더에서 덮어씁니다.
+     */
+    public static Task.TaskBuilder task(Team team) {
+        return Task.builder()
+                .team(team)
+                .path(Task.childPathOf(null))
+                .depth(Task.childDepthOf(null))
+                .title("task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM);
+    }
+
+    public static Task.TaskBuilder subtask(Team team, Task parent) {
+        return task(team)
+                .parent(parent)
+                .path(Task.childPathOf(parent))
+                .depth(Task.childDepthOf(parent));
+    }
+}